@@ -0,0 +1,385 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview.render;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import javax.imageio.ImageIO;
+
+import marek.matejka.logotextview.IconTable;
+
+/**
+ * Renders LogoView icons to PNG or SVG on a plain JVM (no Android), using the
+ * same IconTable and FontAwesome font as the Android library, e.g. for images
+ * in e-mails or on the web.
+ * 
+ * The glyph is scaled to the requested size in pixels and its ink is centered
+ * in a square image, like LogoView in tight bounds mode.
+ * 
+ * An instance is safe to use from many threads. Results are kept in a bounded
+ * LRU cache keyed by glyph ID (so aliases share results), size, color and
+ * format, and concurrent requests for the same result wait for a single
+ * rendering instead of rendering it again.
+ * 
+ * @author Marek Matejka
+ */
+public final class IconRenderer {
+
+	/**
+	 * Classpath location of the font bundled by the build.
+	 */
+	public static final String FONT_RESOURCE = "/fonts/font_awesome.otf";
+
+	private static final int DEFAULT_CACHE_SIZE = 256;
+
+	private static final int FORMAT_PNG = 0;
+	private static final int FORMAT_SVG = 1;
+
+	private static final FontRenderContext RENDER_CONTEXT = new FontRenderContext(
+			null, true, true);
+
+	private final Font mFont;
+	private final Map<Key, Object> mCache;
+	private final ConcurrentHashMap<Key, FutureTask<Object>> mPending = new ConcurrentHashMap<Key, FutureTask<Object>>();
+
+	/**
+	 * Creates a renderer with the font bundled on the classpath.
+	 * 
+	 * @return New renderer, create it once and share it.
+	 * @throws IOException
+	 *             If the font cannot be read.
+	 */
+	public static IconRenderer createDefault() throws IOException {
+		InputStream in = IconRenderer.class.getResourceAsStream(FONT_RESOURCE);
+		if (in == null) {
+			throw new IOException(FONT_RESOURCE + " is not on the classpath");
+		}
+		try {
+			return new IconRenderer(Font.createFont(Font.TRUETYPE_FONT, in),
+					DEFAULT_CACHE_SIZE);
+		} catch (FontFormatException e) {
+			throw new IOException(e.getMessage());
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Creates a renderer with a font file.
+	 * 
+	 * @param fontFile
+	 *            The <i>font_awesome.otf</i> file.
+	 * @param cacheSize
+	 *            Maximum number of rendered results kept in memory.
+	 * @throws IOException
+	 *             If the font cannot be read.
+	 */
+	public IconRenderer(File fontFile, int cacheSize) throws IOException {
+		this(loadFont(fontFile), cacheSize);
+	}
+
+	/**
+	 * Creates a renderer with a loaded font.
+	 * 
+	 * @param font
+	 *            FontAwesome font, its size does not matter.
+	 * @param cacheSize
+	 *            Maximum number of rendered results kept in memory.
+	 */
+	public IconRenderer(Font font, final int cacheSize) {
+		mFont = font;
+		mCache = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Renders one icon to a file.
+	 * 
+	 * Usage: <i>IconRenderer name size color file</i>, e.g.
+	 * <i>IconRenderer arrow-right 48 ff336699 arrow.png</i>. The format is
+	 * given by the extension of the file (<i>.png</i> or <i>.svg</i>).
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 4) {
+			System.err.println("Usage: IconRenderer name size color file");
+			System.exit(1);
+		}
+
+		final int code = IconTable.findCode(args[0]);
+		if (code == -1) {
+			System.err.println("Unknown icon " + args[0]);
+			System.exit(1);
+		}
+		final int size = Integer.parseInt(args[1]);
+		final int argb = (int) Long.parseLong(args[2], 16);
+
+		IconRenderer renderer = createDefault();
+		byte[] data = args[3].endsWith(".svg") ? renderer.renderSvg(code,
+				size, argb).getBytes("UTF-8") : renderer.renderPng(code, size,
+				argb);
+		FileOutputStream out = new FileOutputStream(args[3]);
+		try {
+			out.write(data);
+		} finally {
+			out.close();
+		}
+	}
+
+	private static Font loadFont(File fontFile) throws IOException {
+		try {
+			return Font.createFont(Font.TRUETYPE_FONT, fontFile);
+		} catch (FontFormatException e) {
+			throw new IOException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Renders an icon to an image.
+	 * 
+	 * @param code
+	 *            Logo type code.
+	 * @param size
+	 *            Width and height of the image in pixels.
+	 * @param argb
+	 *            Color of the icon, e.g. 0xff000000 for opaque black.
+	 * @return New image with transparent background, never cached.
+	 */
+	public BufferedImage render(int code, int size, int argb) {
+		final int glyphId = checkGlyphId(code, size);
+
+		BufferedImage image = new BufferedImage(size, size,
+				BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		try {
+			g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+					RenderingHints.VALUE_ANTIALIAS_ON);
+			g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL,
+					RenderingHints.VALUE_STROKE_PURE);
+			g.setColor(new Color(argb, true));
+			g.fill(outline(glyphId, size));
+		} finally {
+			g.dispose();
+		}
+		return image;
+	}
+
+	/**
+	 * Renders an icon to PNG.
+	 * 
+	 * @param code
+	 *            Logo type code.
+	 * @param size
+	 *            Width and height of the image in pixels.
+	 * @param argb
+	 *            Color of the icon.
+	 * @return PNG data, a new copy for every call.
+	 */
+	public byte[] renderPng(int code, int size, int argb) {
+		byte[] png = (byte[]) cached(new Key(FORMAT_PNG, checkGlyphId(code,
+				size), size, argb), code);
+		return png.clone();
+	}
+
+	/**
+	 * Renders an icon to an SVG document.
+	 * 
+	 * @param code
+	 *            Logo type code.
+	 * @param size
+	 *            Width and height of the image in pixels.
+	 * @param argb
+	 *            Color of the icon.
+	 * @return SVG document.
+	 */
+	public String renderSvg(int code, int size, int argb) {
+		return (String) cached(new Key(FORMAT_SVG, checkGlyphId(code, size),
+				size, argb), code);
+	}
+
+	/**
+	 * Returns a result from the cache, or renders it. Only one thread
+	 * renders a missing result, others asking for it meanwhile wait for it.
+	 */
+	private Object cached(final Key key, final int code) {
+		synchronized (mCache) {
+			Object result = mCache.get(key);
+			if (result != null) {
+				return result;
+			}
+		}
+
+		FutureTask<Object> task = new FutureTask<Object>(
+				new Callable<Object>() {
+					@Override
+					public Object call() throws IOException {
+						return key.format == FORMAT_PNG ? toPng(render(code,
+								key.size, key.argb)) : toSvg(key.glyphId,
+								key.size, key.argb);
+					}
+				});
+		FutureTask<Object> pending = mPending.putIfAbsent(key, task);
+		if (pending == null) {
+			pending = task;
+			try {
+				task.run();
+				if (!task.isCancelled()) {
+					synchronized (mCache) {
+						mCache.put(key, task.get());
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException e) {
+				// reported to every waiting thread below
+			} finally {
+				mPending.remove(key, task);
+			}
+		}
+
+		try {
+			return pending.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while rendering", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Cannot render icon " + code,
+					e.getCause());
+		}
+	}
+
+	static int checkGlyphId(int code, int size) {
+		final int glyphId = IconTable.getGlyphId(code);
+		if (glyphId == IconTable.NO_GLYPH) {
+			throw new IllegalArgumentException("Unknown logo type " + code);
+		}
+		if (size <= 0) {
+			throw new IllegalArgumentException("Size must be positive");
+		}
+		return glyphId;
+	}
+
+	/**
+	 * @return Outline of the glyph scaled to the size, with its ink centered
+	 *         in a square of that size.
+	 */
+	Shape outline(int glyphId, int size) {
+		Font font = mFont.deriveFont((float) size);
+		GlyphVector vector = font.createGlyphVector(RENDER_CONTEXT,
+				new char[] { IconTable.getGlyph(glyphId) });
+		Shape shape = vector.getOutline();
+		Rectangle2D bounds = shape.getBounds2D();
+
+		// glyphs wider or taller than the em are scaled down to fit
+		double scale = Math.min(1, size
+				/ Math.max(bounds.getWidth(), bounds.getHeight()));
+		AffineTransform transform = new AffineTransform();
+		transform.translate(size / 2.0, size / 2.0);
+		transform.scale(scale, scale);
+		transform.translate(-bounds.getCenterX(), -bounds.getCenterY());
+		return transform.createTransformedShape(shape);
+	}
+
+	private static byte[] toPng(BufferedImage image) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+
+	private String toSvg(int glyphId, int size, int argb) {
+		StringBuilder svg = new StringBuilder(1024);
+		svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"")
+				.append(size).append("\" height=\"").append(size)
+				.append("\" viewBox=\"0 0 ").append(size).append(' ')
+				.append(size).append("\">");
+		svg.append("<path fill=\"")
+				.append(String.format(Locale.US, "#%06x", argb & 0xffffff))
+				.append('"');
+		final int alpha = argb >>> 24;
+		if (alpha != 0xff) {
+			svg.append(" fill-opacity=\"")
+					.append(String.format(Locale.US, "%.3f", alpha / 255f))
+					.append('"');
+		}
+		svg.append(" d=\"");
+		PathDataWriter.append(svg, outline(glyphId, size), 2);
+		svg.append("\"/></svg>");
+		return svg.toString();
+	}
+
+	/**
+	 * Key of a rendered result.
+	 */
+	private static final class Key {
+		final int format;
+		final int glyphId;
+		final int size;
+		final int argb;
+
+		Key(int format, int glyphId, int size, int argb) {
+			this.format = format;
+			this.glyphId = glyphId;
+			this.size = size;
+			this.argb = argb;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return format == other.format && glyphId == other.glyphId
+					&& size == other.size && argb == other.argb;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = format;
+			result = 31 * result + glyphId;
+			result = 31 * result + size;
+			return 31 * result + argb;
+		}
+	}
+}
@@ -0,0 +1,326 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview.render;
+
+import java.awt.Shape;
+import java.awt.geom.PathIterator;
+
+/**
+ * Writes the outline of a glyph as compact SVG path data, which is also the
+ * format of <i>android:pathData</i> in vector drawables.
+ * 
+ * Besides using relative commands and the shortest number format, the
+ * writer keeps the path cheap to render:
+ * <ul>
+ * <li>coordinates are rounded to a grid and degenerate segments are dropped,</li>
+ * <li>curves that are straight within the grid become lines,</li>
+ * <li>cubic curves that are elevated quadratic curves become quadratic
+ * curves,</li>
+ * <li>collinear lines are merged, horizontal and vertical lines use
+ * <i>h</i>/<i>v</i>, and the last line of a closed contour is left to
+ * <i>z</i>.</li>
+ * </ul>
+ * 
+ * @author Marek Matejka
+ */
+public final class PathDataWriter {
+
+	private final StringBuilder mOut;
+	private final double mScale; // grid cells per unit
+	private final double mTolerance; // in units
+
+	// rounded absolute positions, in grid cells
+	private long mX;
+	private long mY;
+	private long mStartX;
+	private long mStartY;
+
+	// line waiting to be merged with the next collinear one, in cells
+	private boolean mHasLine;
+	private long mLineFromX;
+	private long mLineFromY;
+	private long mLineToX;
+	private long mLineToY;
+
+	private char mLastCommand;
+
+	private PathDataWriter(StringBuilder out, int decimals) {
+		mOut = out;
+		mScale = Math.pow(10, decimals);
+		mTolerance = 0.5 / mScale;
+	}
+
+	/**
+	 * Returns the path data of a shape.
+	 * 
+	 * @param shape
+	 *            Shape, e.g. an outline from a GlyphVector.
+	 * @param decimals
+	 *            Number of decimal places kept in coordinates.
+	 * @return SVG path data.
+	 */
+	public static String write(Shape shape, int decimals) {
+		StringBuilder out = new StringBuilder(512);
+		append(out, shape, decimals);
+		return out.toString();
+	}
+
+	/**
+	 * Appends the path data of a shape.
+	 * 
+	 * @param out
+	 *            Builder the data is appended to.
+	 * @param shape
+	 *            Shape, e.g. an outline from a GlyphVector.
+	 * @param decimals
+	 *            Number of decimal places kept in coordinates.
+	 */
+	public static void append(StringBuilder out, Shape shape, int decimals) {
+		PathDataWriter writer = new PathDataWriter(out, decimals);
+		final double[] c = new double[6];
+		double x = 0;
+		double y = 0;
+
+		PathIterator it = shape.getPathIterator(null);
+		while (!it.isDone()) {
+			switch (it.currentSegment(c)) {
+			case PathIterator.SEG_MOVETO:
+				writer.moveTo(c[0], c[1]);
+				x = c[0];
+				y = c[1];
+				break;
+			case PathIterator.SEG_LINETO:
+				writer.lineTo(c[0], c[1]);
+				x = c[0];
+				y = c[1];
+				break;
+			case PathIterator.SEG_QUADTO:
+				writer.quadTo(x, y, c[0], c[1], c[2], c[3]);
+				x = c[2];
+				y = c[3];
+				break;
+			case PathIterator.SEG_CUBICTO:
+				writer.cubicTo(x, y, c[0], c[1], c[2], c[3], c[4], c[5]);
+				x = c[4];
+				y = c[5];
+				break;
+			case PathIterator.SEG_CLOSE:
+				writer.close();
+				break;
+			}
+			it.next();
+		}
+		writer.flushLine();
+	}
+
+	private void moveTo(double x, double y) {
+		flushLine();
+		final long cx = cell(x);
+		final long cy = cell(y);
+		command('m');
+		number(cx - mX);
+		number(cy - mY);
+		mX = mStartX = cx;
+		mY = mStartY = cy;
+		// numbers following a moveto would be read as lines
+		mLastCommand = 0;
+	}
+
+	private void lineTo(double x, double y) {
+		final long cx = cell(x);
+		final long cy = cell(y);
+		final long fromX = mHasLine ? mLineToX : mX;
+		final long fromY = mHasLine ? mLineToY : mY;
+		if (cx == fromX && cy == fromY) {
+			return;
+		}
+
+		if (mHasLine && collinear(cx, cy)) {
+			mLineToX = cx;
+			mLineToY = cy;
+			return;
+		}
+
+		flushLine();
+		mHasLine = true;
+		mLineFromX = mX;
+		mLineFromY = mY;
+		mLineToX = cx;
+		mLineToY = cy;
+	}
+
+	private void quadTo(double x0, double y0, double x1, double y1,
+			double x2, double y2) {
+		if (nearLine(x0, y0, x2, y2, x1, y1)) {
+			lineTo(x2, y2);
+			return;
+		}
+
+		flushLine();
+		final long cx1 = cell(x1);
+		final long cy1 = cell(y1);
+		final long cx2 = cell(x2);
+		final long cy2 = cell(y2);
+		command('q');
+		number(cx1 - mX);
+		number(cy1 - mY);
+		number(cx2 - mX);
+		number(cy2 - mY);
+		mX = cx2;
+		mY = cy2;
+	}
+
+	private void cubicTo(double x0, double y0, double x1, double y1,
+			double x2, double y2, double x3, double y3) {
+		if (nearLine(x0, y0, x3, y3, x1, y1)
+				&& nearLine(x0, y0, x3, y3, x2, y2)) {
+			lineTo(x3, y3);
+			return;
+		}
+
+		// a quadratic curve with control point q elevated to a cubic one has
+		// c1 = p0 + 2/3 (q - p0) and c2 = p3 + 2/3 (q - p3)
+		final double qx1 = (3 * x1 - x0) / 2;
+		final double qy1 = (3 * y1 - y0) / 2;
+		final double qx2 = (3 * x2 - x3) / 2;
+		final double qy2 = (3 * y2 - y3) / 2;
+		if (Math.abs(qx1 - qx2) <= mTolerance
+				&& Math.abs(qy1 - qy2) <= mTolerance) {
+			quadTo(x0, y0, (qx1 + qx2) / 2, (qy1 + qy2) / 2, x3, y3);
+			return;
+		}
+
+		flushLine();
+		final long cx3 = cell(x3);
+		final long cy3 = cell(y3);
+		command('c');
+		number(cell(x1) - mX);
+		number(cell(y1) - mY);
+		number(cell(x2) - mX);
+		number(cell(y2) - mY);
+		number(cx3 - mX);
+		number(cy3 - mY);
+		mX = cx3;
+		mY = cy3;
+	}
+
+	private void close() {
+		// z draws the line back to the start by itself
+		if (mHasLine && mLineToX == mStartX && mLineToY == mStartY) {
+			mHasLine = false;
+		}
+		flushLine();
+		command('z');
+		mX = mStartX;
+		mY = mStartY;
+	}
+
+	private void flushLine() {
+		if (!mHasLine) {
+			return;
+		}
+		mHasLine = false;
+
+		final long dx = mLineToX - mLineFromX;
+		final long dy = mLineToY - mLineFromY;
+		if (dy == 0) {
+			command('h');
+			number(dx);
+		} else if (dx == 0) {
+			command('v');
+			number(dy);
+		} else {
+			command('l');
+			number(dx);
+			number(dy);
+		}
+		mX = mLineToX;
+		mY = mLineToY;
+	}
+
+	/**
+	 * @return true if the pending line continues in the same direction to
+	 *         the point.
+	 */
+	private boolean collinear(long x, long y) {
+		final long dx1 = mLineToX - mLineFromX;
+		final long dy1 = mLineToY - mLineFromY;
+		final long dx2 = x - mLineToX;
+		final long dy2 = y - mLineToY;
+		return dx1 * dy2 == dy1 * dx2 && dx1 * dx2 + dy1 * dy2 > 0;
+	}
+
+	/**
+	 * @return true if the point (px, py) is within the tolerance of the
+	 *         segment from (x0, y0) to (x1, y1).
+	 */
+	private boolean nearLine(double x0, double y0, double x1, double y1,
+			double px, double py) {
+		final double dx = x1 - x0;
+		final double dy = y1 - y0;
+		final double lengthSquared = dx * dx + dy * dy;
+		double t = lengthSquared == 0 ? 0 : ((px - x0) * dx + (py - y0) * dy)
+				/ lengthSquared;
+		if (t < 0 || t > 1) {
+			return false;
+		}
+		final double ex = x0 + t * dx - px;
+		final double ey = y0 + t * dy - py;
+		return ex * ex + ey * ey <= mTolerance * mTolerance;
+	}
+
+	private long cell(double value) {
+		return Math.round(value * mScale);
+	}
+
+	private void command(char command) {
+		// repeated commands can be left out, except after a moveto
+		if (command != mLastCommand || command == 'z') {
+			mOut.append(command);
+			mLastCommand = command;
+		}
+	}
+
+	private void number(long cells) {
+		// a minus sign separates numbers by itself
+		final char last = mOut.charAt(mOut.length() - 1);
+		if (cells >= 0 && !Character.isLetter(last)) {
+			mOut.append(' ');
+		}
+		if (cells < 0) {
+			mOut.append('-');
+			cells = -cells;
+		}
+
+		final long scale = (long) mScale;
+		mOut.append(cells / scale);
+		long fraction = cells % scale;
+		if (fraction != 0) {
+			int digits = String.valueOf(scale).length() - 1;
+			while (fraction % 10 == 0) {
+				fraction /= 10;
+				digits--;
+			}
+			String text = String.valueOf(fraction);
+			mOut.append('.');
+			for (int i = text.length(); i < digits; i++) {
+				mOut.append('0');
+			}
+			mOut.append(text);
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview.render;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import marek.matejka.logotextview.IconTable;
+
+/**
+ * Build tool that exports the outlines of icons from the font to vector
+ * assets, so screens using them do not need to load the font at all.
+ * 
+ * For every icon it writes <i>name.svg</i> and an Android vector drawable
+ * <i>ic_logo_name.xml</i>. With <i>-java</i> it also writes
+ * <i>LogoVectors.java</i>, whose <i>register()</i> method makes the paths
+ * available to LogoDrawable under the same logo type codes.
+ * 
+ * Aliases share one outline, so <i>all</i> exports every glyph once under
+ * the name of its first code. With <i>-aliases true</i> the other names of
+ * the glyph are exported as their own files too.
+ * 
+ * Usage: <i>VectorExporter [-size 24] [-decimals 2] [-java package]
+ * [-aliases false] outDir (name ... | all)</i>
+ * 
+ * @author Marek Matejka
+ */
+public final class VectorExporter {
+
+	private static final int DEFAULT_SIZE = 24;
+	private static final int DEFAULT_DECIMALS = 2;
+
+	private final IconRenderer mRenderer;
+	private final int mSize;
+	private final int mDecimals;
+
+	/**
+	 * @param renderer
+	 *            Renderer providing the glyph outlines.
+	 * @param size
+	 *            Size of the viewport the outlines are scaled to.
+	 * @param decimals
+	 *            Number of decimal places kept in coordinates.
+	 */
+	public VectorExporter(IconRenderer renderer, int size, int decimals) {
+		mRenderer = renderer;
+		mSize = size;
+		mDecimals = decimals;
+	}
+
+	/**
+	 * Returns the path data of an icon, scaled to the viewport.
+	 * 
+	 * @param code
+	 *            Logo type code.
+	 * @return SVG path data.
+	 */
+	public String getPathData(int code) {
+		final int glyphId = IconRenderer.checkGlyphId(code, mSize);
+		return PathDataWriter.write(mRenderer.outline(glyphId, mSize),
+				mDecimals);
+	}
+
+	/**
+	 * @param pathData
+	 *            Path data returned by getPathData().
+	 * @return SVG document with the path.
+	 */
+	public String toSvg(String pathData) {
+		return "<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 "
+				+ mSize + " " + mSize + "\"><path d=\"" + pathData
+				+ "\"/></svg>\n";
+	}
+
+	/**
+	 * @param pathData
+	 *            Path data returned by getPathData().
+	 * @return Android vector drawable with the path.
+	 */
+	public String toVectorDrawable(String pathData) {
+		return "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n"
+				+ "<vector xmlns:android=\"http://schemas.android.com/apk/res/android\"\n"
+				+ "    android:width=\"" + mSize + "dp\"\n"
+				+ "    android:height=\"" + mSize + "dp\"\n"
+				+ "    android:viewportWidth=\"" + mSize + "\"\n"
+				+ "    android:viewportHeight=\"" + mSize + "\">\n"
+				+ "    <path\n"
+				+ "        android:fillColor=\"#FF000000\"\n"
+				+ "        android:pathData=\"" + pathData + "\" />\n"
+				+ "</vector>\n";
+	}
+
+	/**
+	 * Exports icons to a folder. The outline of a glyph is computed and
+	 * registered in LogoVectors only once, even if several of its aliases are
+	 * exported.
+	 * 
+	 * @param codes
+	 *            Logo type codes of the icons.
+	 * @param outDir
+	 *            Folder the files are written to.
+	 * @param javaPackage
+	 *            Package of the generated LogoVectors class, null to skip it.
+	 * @throws IOException
+	 *             If a file cannot be written.
+	 */
+	public void export(int[] codes, File outDir, String javaPackage)
+			throws IOException {
+		if (!outDir.isDirectory() && !outDir.mkdirs()) {
+			throw new IOException("Cannot create " + outDir);
+		}
+
+		StringBuilder java = new StringBuilder();
+		Map<Integer, String> exported = new HashMap<Integer, String>();
+		for (int code : codes) {
+			final String name = IconTable.getName(code);
+			final Integer glyphId = IconTable.getGlyphId(code);
+			String pathData = exported.get(glyphId);
+			if (pathData == null) {
+				pathData = getPathData(code);
+				exported.put(glyphId, pathData);
+				java.append("\t\tVectorIcons.register(").append(code)
+						.append(", ").append(mSize).append(", \"")
+						.append(pathData).append("\"); // ").append(name)
+						.append('\n');
+			}
+			write(new File(outDir, name + ".svg"), toSvg(pathData));
+			write(new File(outDir, "ic_logo_" + name.replace('-', '_')
+					+ ".xml"), toVectorDrawable(pathData));
+		}
+
+		if (javaPackage != null) {
+			write(new File(outDir, "LogoVectors.java"), "package "
+					+ javaPackage + ";\n\n"
+					+ "import marek.matejka.logotextview.VectorIcons;\n\n"
+					+ "/**\n * Generated by VectorExporter, do not edit.\n */\n"
+					+ "public final class LogoVectors {\n\n"
+					+ "\tprivate LogoVectors() {\n\t}\n\n"
+					+ "\t/**\n\t * Registers the exported icons with VectorIcons.\n\t */\n"
+					+ "\tpublic static void register() {\n" + java
+					+ "\t}\n}\n");
+		}
+	}
+
+	private static void write(File file, String content) throws IOException {
+		Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			out.write(content);
+		} finally {
+			out.close();
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		int size = DEFAULT_SIZE;
+		int decimals = DEFAULT_DECIMALS;
+		String javaPackage = null;
+		boolean aliases = false;
+
+		int i = 0;
+		for (; i < args.length && args[i].startsWith("-"); i += 2) {
+			if (i + 1 == args.length) {
+				usage();
+			} else if (args[i].equals("-size")) {
+				size = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equals("-decimals")) {
+				decimals = Integer.parseInt(args[i + 1]);
+			} else if (args[i].equals("-java")) {
+				javaPackage = args[i + 1];
+			} else if (args[i].equals("-aliases")) {
+				aliases = Boolean.parseBoolean(args[i + 1]);
+			} else {
+				usage();
+			}
+		}
+		if (args.length - i < 2) {
+			usage();
+		}
+
+		File outDir = new File(args[i++]);
+		List<Integer> codes = new ArrayList<Integer>();
+		for (; i < args.length; i++) {
+			if (args[i].equals("all")) {
+				addAll(codes, aliases);
+			} else {
+				final int code = IconTable.findCode(args[i]);
+				if (code == -1) {
+					System.err.println("Unknown icon " + args[i]);
+					System.exit(1);
+				}
+				codes.add(code);
+			}
+		}
+
+		int[] array = new int[codes.size()];
+		for (int j = 0; j < array.length; j++) {
+			array[j] = codes.get(j);
+		}
+		new VectorExporter(IconRenderer.createDefault(), size, decimals)
+				.export(array, outDir, javaPackage);
+	}
+
+	/**
+	 * Adds the codes of all icons, skipping aliases unless they are asked for.
+	 */
+	private static void addAll(List<Integer> codes, boolean aliases) {
+		boolean[] seen = new boolean[IconTable.getGlyphCount()];
+		for (int code = 1; code <= IconTable.getMaxCode(); code++) {
+			if (!IconTable.isValid(code)) {
+				continue;
+			}
+			final int glyphId = IconTable.getGlyphId(code);
+			if (aliases || !seen[glyphId]) {
+				seen[glyphId] = true;
+				codes.add(code);
+			}
+		}
+	}
+
+	private static void usage() {
+		System.err.println("Usage: VectorExporter [-size 24] [-decimals 2]"
+				+ " [-java package] [-aliases false] outDir"
+				+ " (name ... | all)");
+		System.exit(1);
+	}
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * Installs every category of logo types, which IconTable does by default.
+ * 
+ * @author Marek Matejka
+ */
+final class AllIcons {
+
+	private AllIcons() {
+	}
+
+	static void install() {
+		ControlIcons.install();
+		StatusIcons.install();
+		CommunicationIcons.install();
+		PeopleIcons.install();
+		ObjectIcons.install();
+		BrandIcons.install();
+		DirectionalIcons.install();
+		FileIcons.install();
+		TextEditorIcons.install();
+		CurrencyIcons.install();
+		MediaIcons.install();
+	}
+}
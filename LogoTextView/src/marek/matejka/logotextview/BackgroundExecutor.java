@@ -0,0 +1,62 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import android.os.Process;
+
+/**
+ * Single low-priority thread shared by all background work of the library,
+ * e.g. building label layouts and rendering glyphs ahead of time, so that it
+ * never competes with the main thread or with itself.
+ * 
+ * @author Marek Matejka
+ */
+final class BackgroundExecutor {
+
+	private static ExecutorService sExecutor;
+
+	private BackgroundExecutor() {
+	}
+
+	/**
+	 * @return The shared executor, created on first use. Its thread is a
+	 *         daemon running at THREAD_PRIORITY_BACKGROUND.
+	 */
+	static synchronized ExecutorService get() {
+		if (sExecutor == null) {
+			sExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(final Runnable r) {
+					Thread thread = new Thread(new Runnable() {
+						@Override
+						public void run() {
+							Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+							r.run();
+						}
+					}, "LogoTextView");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return sExecutor;
+	}
+}
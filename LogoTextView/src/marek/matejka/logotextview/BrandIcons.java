@@ -0,0 +1,303 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * Brand logo types (logos of companies and products) of IconTable.
+ * 
+ * The constants are logo type codes as in <i>res/attrs.xml</i>. Being
+ * compile-time constants, they do not keep this class in a shrunk app, only
+ * install() does (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class BrandIcons {
+
+	public static final int ADN = 2;
+	public static final int ANDROID = 9;
+	public static final int APPLE = 18;
+	public static final int BEHANCE = 45;
+	public static final int BEHANCE_SQUARE = 46;
+	public static final int BITBUCKET = 49;
+	public static final int BITBUCKET_SQUARE = 50;
+	public static final int CODEPEN = 108;
+	public static final int CSS3 = 123;
+	public static final int DELICIOUS = 131;
+	public static final int DEVIANTART = 133;
+	public static final int DIGG = 134;
+	public static final int DRIBBBLE = 138;
+	public static final int DROPBOX = 139;
+	public static final int DRUPAL = 140;
+	public static final int EMPIRE = 145;
+	public static final int FACEBOOK = 161;
+	public static final int FACEBOOK_SQUARE = 162;
+	public static final int FLICKR = 196;
+	public static final int FOURSQUARE = 204;
+	public static final int GE = 209;
+	public static final int GIT = 213;
+	public static final int GIT_SQUARE = 214;
+	public static final int GITHUB = 215;
+	public static final int GITHUB_ALT = 216;
+	public static final int GITHUB_SQUARE = 217;
+	public static final int GITTIP = 218;
+	public static final int GOOGLE = 221;
+	public static final int GOOGLE_PLUS = 222;
+	public static final int GOOGLE_PLUS_SQUARE = 223;
+	public static final int HACKER_NEWS = 227;
+	public static final int HTML5 = 240;
+	public static final int INSTAGRAM = 247;
+	public static final int JOOMLA = 250;
+	public static final int JSFIDDLE = 252;
+	public static final int LINKEDIN = 268;
+	public static final int LINKEDIN_SQUARE = 269;
+	public static final int LINUX = 270;
+	public static final int MAXCDN = 288;
+	public static final int OPENID = 304;
+	public static final int PAGELINES = 306;
+	public static final int PIED_PIPER = 321;
+	public static final int PIED_PIPER_ALT = 322;
+	public static final int PIED_PIPER_SQUARE = 323;
+	public static final int PINTEREST = 324;
+	public static final int PINTEREST_SQUARE = 325;
+	public static final int QQ = 337;
+	public static final int RA = 343;
+	public static final int REBEL = 345;
+	public static final int REDDIT = 347;
+	public static final int REDDIT_SQUARE = 348;
+	public static final int RENREN = 350;
+	public static final int SKYPE = 385;
+	public static final int SLACK = 386;
+	public static final int SOUNDCLOUD = 400;
+	public static final int SPOTIFY = 404;
+	public static final int STACK_EXCHANGE = 407;
+	public static final int STACK_OVERFLOW = 408;
+	public static final int STEAM = 415;
+	public static final int STEAM_SQUARE = 416;
+	public static final int STUMBLEUPON = 422;
+	public static final int STUMBLEUPON_CIRCLE = 423;
+	public static final int TENCENT_WEIBO = 436;
+	public static final int TRELLO = 459;
+	public static final int TUMBLR = 463;
+	public static final int TUMBLR_SQUARE = 464;
+	public static final int TWITTER = 466;
+	public static final int TWITTER_SQUARE = 467;
+	public static final int VIMEO_SQUARE = 482;
+	public static final int VINE = 483;
+	public static final int VK = 484;
+	public static final int WECHAT = 489;
+	public static final int WEIBO = 490;
+	public static final int WEIXIN = 491;
+	public static final int WINDOWS = 493;
+	public static final int WORDPRESS = 495;
+	public static final int XING = 497;
+	public static final int XING_SQUARE = 498;
+	public static final int YAHOO = 499;
+	public static final int YOUTUBE = 501;
+	public static final int YOUTUBE_PLAY = 502;
+	public static final int YOUTUBE_SQUARE = 503;
+
+	// codes, names and Unicode of the category, in code order
+	private static final int[] CODES = {
+			2, 9, 18, 45, 46, 49, 50, 108, 123, 131, 133, 134, 138, 139, 140,
+			145, 161, 162, 196, 204, 209, 213, 214, 215, 216, 217, 218, 221,
+			222, 223, 227, 240, 247, 250, 252, 268, 269, 270, 288, 304, 306,
+			321, 322, 323, 324, 325, 337, 343, 345, 347, 348, 350, 385, 386,
+			400, 404, 407, 408, 415, 416, 422, 423, 436, 459, 463, 464, 466,
+			467, 482, 483, 484, 489, 490, 491, 493, 495, 497, 498, 499, 501,
+			502, 503 };
+
+	private static final String[] NAMES = {
+			"adn", // 2
+			"android", // 9
+			"apple", // 18
+			"behance", // 45
+			"behance-square", // 46
+			"bitbucket", // 49
+			"bitbucket-square", // 50
+			"codepen", // 108
+			"css3", // 123
+			"delicious", // 131
+			"deviantart", // 133
+			"digg", // 134
+			"dribbble", // 138
+			"dropbox", // 139
+			"drupal", // 140
+			"empire", // 145
+			"facebook", // 161
+			"facebook-square", // 162
+			"flickr", // 196
+			"foursquare", // 204
+			"ge", // 209
+			"git", // 213
+			"git-square", // 214
+			"github", // 215
+			"github-alt", // 216
+			"github-square", // 217
+			"gittip", // 218
+			"google", // 221
+			"google-plus", // 222
+			"google-plus-square", // 223
+			"hacker-news", // 227
+			"html5", // 240
+			"instagram", // 247
+			"joomla", // 250
+			"jsfiddle", // 252
+			"linkedin", // 268
+			"linkedin-square", // 269
+			"linux", // 270
+			"maxcdn", // 288
+			"openid", // 304
+			"pagelines", // 306
+			"pied-piper", // 321
+			"pied-piper-alt", // 322
+			"pied-piper-square", // 323
+			"pinterest", // 324
+			"pinterest-square", // 325
+			"qq", // 337
+			"ra", // 343
+			"rebel", // 345
+			"reddit", // 347
+			"reddit-square", // 348
+			"renren", // 350
+			"skype", // 385
+			"slack", // 386
+			"soundcloud", // 400
+			"spotify", // 404
+			"stack-exchange", // 407
+			"stack-overflow", // 408
+			"steam", // 415
+			"steam-square", // 416
+			"stumbleupon", // 422
+			"stumbleupon-circle", // 423
+			"tencent-weibo", // 436
+			"trello", // 459
+			"tumblr", // 463
+			"tumblr-square", // 464
+			"twitter", // 466
+			"twitter-square", // 467
+			"vimeo-square", // 482
+			"vine", // 483
+			"vk", // 484
+			"wechat", // 489
+			"weibo", // 490
+			"weixin", // 491
+			"windows", // 493
+			"wordpress", // 495
+			"xing", // 497
+			"xing-square", // 498
+			"yahoo", // 499
+			"youtube", // 501
+			"youtube-play", // 502
+			"youtube-square", // 503
+	};
+
+	private static final char[] CODEPOINTS = {
+			0xf170, // adn
+			0xf17b, // android
+			0xf179, // apple
+			0xf1b4, // behance
+			0xf1b5, // behance-square
+			0xf171, // bitbucket
+			0xf172, // bitbucket-square
+			0xf1cb, // codepen
+			0xf13c, // css3
+			0xf1a5, // delicious
+			0xf1bd, // deviantart
+			0xf1a6, // digg
+			0xf17d, // dribbble
+			0xf16b, // dropbox
+			0xf1a9, // drupal
+			0xf1d1, // empire
+			0xf09a, // facebook
+			0xf082, // facebook-square
+			0xf16e, // flickr
+			0xf180, // foursquare
+			0xf1d1, // ge
+			0xf1d3, // git
+			0xf1d2, // git-square
+			0xf09b, // github
+			0xf113, // github-alt
+			0xf092, // github-square
+			0xf184, // gittip
+			0xf1a0, // google
+			0xf0d5, // google-plus
+			0xf0d4, // google-plus-square
+			0xf1d4, // hacker-news
+			0xf13b, // html5
+			0xf16d, // instagram
+			0xf1aa, // joomla
+			0xf1cc, // jsfiddle
+			0xf0e1, // linkedin
+			0xf08c, // linkedin-square
+			0xf17c, // linux
+			0xf136, // maxcdn
+			0xf19b, // openid
+			0xf18c, // pagelines
+			0xf1a7, // pied-piper
+			0xf1a8, // pied-piper-alt
+			0xf1a7, // pied-piper-square
+			0xf0d2, // pinterest
+			0xf0d3, // pinterest-square
+			0xf1d6, // qq
+			0xf1d0, // ra
+			0xf1d0, // rebel
+			0xf1a1, // reddit
+			0xf1a2, // reddit-square
+			0xf18b, // renren
+			0xf17e, // skype
+			0xf198, // slack
+			0xf1be, // soundcloud
+			0xf1bc, // spotify
+			0xf18d, // stack-exchange
+			0xf16c, // stack-overflow
+			0xf1b6, // steam
+			0xf1b7, // steam-square
+			0xf1a4, // stumbleupon
+			0xf1a3, // stumbleupon-circle
+			0xf1d5, // tencent-weibo
+			0xf181, // trello
+			0xf173, // tumblr
+			0xf174, // tumblr-square
+			0xf099, // twitter
+			0xf081, // twitter-square
+			0xf194, // vimeo-square
+			0xf1ca, // vine
+			0xf189, // vk
+			0xf1d7, // wechat
+			0xf18a, // weibo
+			0xf1d7, // weixin
+			0xf17a, // windows
+			0xf19a, // wordpress
+			0xf168, // xing
+			0xf169, // xing-square
+			0xf19e, // yahoo
+			0xf167, // youtube
+			0xf16a, // youtube-play
+			0xf166, // youtube-square
+	};
+
+	private BrandIcons() {
+	}
+
+	/**
+	 * Adds the logo types of the category to IconTable, unless they are in it
+	 * already.
+	 */
+	public static void install() {
+		IconTable.install(CODES, NAMES, CODEPOINTS);
+	}
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * Communication logo types of IconTable: messages, sharing, calls,
+ * sound and feeds.
+ * 
+ * The constants are logo type codes as in <i>res/attrs.xml</i>. Being
+ * compile-time constants, they do not keep this class in a shrunk app, only
+ * install() does (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class CommunicationIcons {
+
+	public static final int BELL = 47;
+	public static final int BELL_O = 48;
+	public static final int BULLHORN = 63;
+	public static final int COMMENT = 113;
+	public static final int COMMENT_O = 114;
+	public static final int COMMENTS = 115;
+	public static final int COMMENTS_O = 116;
+	public static final int ENVELOPE = 146;
+	public static final int ENVELOPE_O = 147;
+	public static final int ENVELOPE_SQUARE = 148;
+	public static final int FAX = 165;
+	public static final int GLOBE = 220;
+	public static final int INBOX = 242;
+	public static final int LANGUAGE = 256;
+	public static final int MAIL_FORWARD = 283;
+	public static final int MAIL_REPLY = 284;
+	public static final int MAIL_REPLY_ALL = 285;
+	public static final int MICROPHONE = 291;
+	public static final int MICROPHONE_SLASH = 292;
+	public static final int PAPER_PLANE = 307;
+	public static final int PAPER_PLANE_O = 308;
+	public static final int PHONE = 317;
+	public static final int PHONE_SQUARE = 318;
+	public static final int QUOTE_LEFT = 341;
+	public static final int QUOTE_RIGHT = 342;
+	public static final int REPLY = 353;
+	public static final int REPLY_ALL = 354;
+	public static final int RETWEET = 355;
+	public static final int RSS = 362;
+	public static final int RSS_SQUARE = 363;
+	public static final int SEND = 372;
+	public static final int SEND_O = 373;
+	public static final int SHARE = 374;
+	public static final int SHARE_ALT = 375;
+	public static final int SHARE_ALT_SQUARE = 376;
+	public static final int SHARE_SQUARE = 377;
+	public static final int SHARE_SQUARE_O = 378;
+	public static final int SIGNAL = 383;
+	public static final int SITEMAP = 384;
+	public static final int VOLUME_DOWN = 485;
+	public static final int VOLUME_OFF = 486;
+	public static final int VOLUME_UP = 487;
+
+	// codes, names and Unicode of the category, in code order
+	private static final int[] CODES = {
+			47, 48, 63, 113, 114, 115, 116, 146, 147, 148, 165, 220, 242, 256,
+			283, 284, 285, 291, 292, 307, 308, 317, 318, 341, 342, 353, 354,
+			355, 362, 363, 372, 373, 374, 375, 376, 377, 378, 383, 384, 485,
+			486, 487 };
+
+	private static final String[] NAMES = {
+			"bell", // 47
+			"bell-o", // 48
+			"bullhorn", // 63
+			"comment", // 113
+			"comment-o", // 114
+			"comments", // 115
+			"comments-o", // 116
+			"envelope", // 146
+			"envelope-o", // 147
+			"envelope-square", // 148
+			"fax", // 165
+			"globe", // 220
+			"inbox", // 242
+			"language", // 256
+			"mail-forward", // 283
+			"mail-reply", // 284
+			"mail-reply-all", // 285
+			"microphone", // 291
+			"microphone-slash", // 292
+			"paper-plane", // 307
+			"paper-plane-o", // 308
+			"phone", // 317
+			"phone-square", // 318
+			"quote-left", // 341
+			"quote-right", // 342
+			"reply", // 353
+			"reply-all", // 354
+			"retweet", // 355
+			"rss", // 362
+			"rss-square", // 363
+			"send", // 372
+			"send-o", // 373
+			"share", // 374
+			"share-alt", // 375
+			"share-alt-square", // 376
+			"share-square", // 377
+			"share-square-o", // 378
+			"signal", // 383
+			"sitemap", // 384
+			"volume-down", // 485
+			"volume-off", // 486
+			"volume-up", // 487
+	};
+
+	private static final char[] CODEPOINTS = {
+			0xf0f3, // bell
+			0xf0a2, // bell-o
+			0xf0a1, // bullhorn
+			0xf075, // comment
+			0xf0e5, // comment-o
+			0xf086, // comments
+			0xf0e6, // comments-o
+			0xf0e0, // envelope
+			0xf003, // envelope-o
+			0xf199, // envelope-square
+			0xf1ac, // fax
+			0xf0ac, // globe
+			0xf01c, // inbox
+			0xf1ab, // language
+			0xf064, // mail-forward
+			0xf112, // mail-reply
+			0xf122, // mail-reply-all
+			0xf130, // microphone
+			0xf131, // microphone-slash
+			0xf1d8, // paper-plane
+			0xf1d9, // paper-plane-o
+			0xf095, // phone
+			0xf098, // phone-square
+			0xf10d, // quote-left
+			0xf10e, // quote-right
+			0xf112, // reply
+			0xf122, // reply-all
+			0xf079, // retweet
+			0xf09e, // rss
+			0xf143, // rss-square
+			0xf1d8, // send
+			0xf1d9, // send-o
+			0xf064, // share
+			0xf1e0, // share-alt
+			0xf1e1, // share-alt-square
+			0xf14d, // share-square
+			0xf045, // share-square-o
+			0xf012, // signal
+			0xf0e8, // sitemap
+			0xf027, // volume-down
+			0xf026, // volume-off
+			0xf028, // volume-up
+	};
+
+	private CommunicationIcons() {
+	}
+
+	/**
+	 * Adds the logo types of the category to IconTable, unless they are in it
+	 * already.
+	 */
+	public static void install() {
+		IconTable.install(CODES, NAMES, CODEPOINTS);
+	}
+}
@@ -0,0 +1,251 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * Control logo types of IconTable: actions, settings, sorting and
+ * editing.
+ * 
+ * The constants are logo type codes as in <i>res/attrs.xml</i>. Being
+ * compile-time constants, they do not keep this class in a shrunk app, only
+ * install() does (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class ControlIcons {
+
+	public static final int ADJUST = 1;
+	public static final int BARS = 43;
+	public static final int CLOUD_DOWNLOAD = 103;
+	public static final int CLOUD_UPLOAD = 104;
+	public static final int COG = 110;
+	public static final int COGS = 111;
+	public static final int CROP = 121;
+	public static final int CROSSHAIRS = 122;
+	public static final int DASHBOARD = 128;
+	public static final int DOWNLOAD = 137;
+	public static final int EDIT = 141;
+	public static final int ELLIPSIS_H = 143;
+	public static final int ELLIPSIS_V = 144;
+	public static final int EXTERNAL_LINK = 157;
+	public static final int EXTERNAL_LINK_SQUARE = 158;
+	public static final int EYE = 159;
+	public static final int EYE_SLASH = 160;
+	public static final int FILTER = 188;
+	public static final int GEAR = 210;
+	public static final int GEARS = 211;
+	public static final int HISTORY = 237;
+	public static final int LEVEL_DOWN = 261;
+	public static final int LEVEL_UP = 262;
+	public static final int LOCK = 276;
+	public static final int MAGIC = 281;
+	public static final int MINUS = 293;
+	public static final int MINUS_CIRCLE = 294;
+	public static final int MINUS_SQUARE = 295;
+	public static final int MINUS_SQUARE_O = 296;
+	public static final int NAVICON = 303;
+	public static final int PENCIL = 314;
+	public static final int PENCIL_SQUARE = 315;
+	public static final int PENCIL_SQUARE_O = 316;
+	public static final int PLUS = 330;
+	public static final int PLUS_CIRCLE = 331;
+	public static final int PLUS_SQUARE = 332;
+	public static final int PLUS_SQUARE_O = 333;
+	public static final int POWER_OFF = 334;
+	public static final int RANDOM = 344;
+	public static final int REFRESH = 349;
+	public static final int REORDER = 351;
+	public static final int SEARCH = 369;
+	public static final int SEARCH_MINUS = 370;
+	public static final int SEARCH_PLUS = 371;
+	public static final int SIGN_IN = 381;
+	public static final int SIGN_OUT = 382;
+	public static final int SLIDERS = 387;
+	public static final int SORT = 389;
+	public static final int SORT_ALPHA_ASC = 390;
+	public static final int SORT_ALPHA_DESC = 391;
+	public static final int SORT_AMOUNT_ASC = 392;
+	public static final int SORT_AMOUNT_DESC = 393;
+	public static final int SORT_ASC = 394;
+	public static final int SORT_DESC = 395;
+	public static final int SORT_DOWN = 396;
+	public static final int SORT_NUMERIC_ASC = 397;
+	public static final int SORT_NUMERIC_DESC = 398;
+	public static final int SORT_UP = 399;
+	public static final int TACHOMETER = 431;
+	public static final int TASKS = 434;
+	public static final int TRASH_O = 457;
+	public static final int UNLOCK = 473;
+	public static final int UNLOCK_ALT = 474;
+	public static final int UNSORTED = 475;
+	public static final int UPLOAD = 476;
+
+	// codes, names and Unicode of the category, in code order
+	private static final int[] CODES = {
+			1, 43, 103, 104, 110, 111, 121, 122, 128, 137, 141, 143, 144, 157,
+			158, 159, 160, 188, 210, 211, 237, 261, 262, 276, 281, 293, 294,
+			295, 296, 303, 314, 315, 316, 330, 331, 332, 333, 334, 344, 349,
+			351, 369, 370, 371, 381, 382, 387, 389, 390, 391, 392, 393, 394,
+			395, 396, 397, 398, 399, 431, 434, 457, 473, 474, 475, 476 };
+
+	private static final String[] NAMES = {
+			"adjust", // 1
+			"bars", // 43
+			"cloud-download", // 103
+			"cloud-upload", // 104
+			"cog", // 110
+			"cogs", // 111
+			"crop", // 121
+			"crosshairs", // 122
+			"dashboard", // 128
+			"download", // 137
+			"edit", // 141
+			"ellipsis-h", // 143
+			"ellipsis-v", // 144
+			"external-link", // 157
+			"external-link-square", // 158
+			"eye", // 159
+			"eye-slash", // 160
+			"filter", // 188
+			"gear", // 210
+			"gears", // 211
+			"history", // 237
+			"level-down", // 261
+			"level-up", // 262
+			"lock", // 276
+			"magic", // 281
+			"minus", // 293
+			"minus-circle", // 294
+			"minus-square", // 295
+			"minus-square-o", // 296
+			"navicon", // 303
+			"pencil", // 314
+			"pencil-square", // 315
+			"pencil-square-o", // 316
+			"plus", // 330
+			"plus-circle", // 331
+			"plus-square", // 332
+			"plus-square-o", // 333
+			"power-off", // 334
+			"random", // 344
+			"refresh", // 349
+			"reorder", // 351
+			"search", // 369
+			"search-minus", // 370
+			"search-plus", // 371
+			"sign-in", // 381
+			"sign-out", // 382
+			"sliders", // 387
+			"sort", // 389
+			"sort-alpha-asc", // 390
+			"sort-alpha-desc", // 391
+			"sort-amount-asc", // 392
+			"sort-amount-desc", // 393
+			"sort-asc", // 394
+			"sort-desc", // 395
+			"sort-down", // 396
+			"sort-numeric-asc", // 397
+			"sort-numeric-desc", // 398
+			"sort-up", // 399
+			"tachometer", // 431
+			"tasks", // 434
+			"trash-o", // 457
+			"unlock", // 473
+			"unlock-alt", // 474
+			"unsorted", // 475
+			"upload", // 476
+	};
+
+	private static final char[] CODEPOINTS = {
+			0xf042, // adjust
+			0xf0c9, // bars
+			0xf0ed, // cloud-download
+			0xf0ee, // cloud-upload
+			0xf013, // cog
+			0xf085, // cogs
+			0xf125, // crop
+			0xf05b, // crosshairs
+			0xf0e4, // dashboard
+			0xf019, // download
+			0xf044, // edit
+			0xf141, // ellipsis-h
+			0xf142, // ellipsis-v
+			0xf08e, // external-link
+			0xf14c, // external-link-square
+			0xf06e, // eye
+			0xf070, // eye-slash
+			0xf0b0, // filter
+			0xf013, // gear
+			0xf085, // gears
+			0xf1da, // history
+			0xf149, // level-down
+			0xf148, // level-up
+			0xf023, // lock
+			0xf0d0, // magic
+			0xf068, // minus
+			0xf056, // minus-circle
+			0xf146, // minus-square
+			0xf147, // minus-square-o
+			0xf0c9, // navicon
+			0xf040, // pencil
+			0xf14b, // pencil-square
+			0xf044, // pencil-square-o
+			0xf067, // plus
+			0xf055, // plus-circle
+			0xf0fe, // plus-square
+			0xf196, // plus-square-o
+			0xf011, // power-off
+			0xf074, // random
+			0xf021, // refresh
+			0xf0c9, // reorder
+			0xf002, // search
+			0xf010, // search-minus
+			0xf00e, // search-plus
+			0xf090, // sign-in
+			0xf08b, // sign-out
+			0xf1de, // sliders
+			0xf0dc, // sort
+			0xf15d, // sort-alpha-asc
+			0xf15e, // sort-alpha-desc
+			0xf160, // sort-amount-asc
+			0xf161, // sort-amount-desc
+			0xf0de, // sort-asc
+			0xf0dd, // sort-desc
+			0xf0dd, // sort-down
+			0xf162, // sort-numeric-asc
+			0xf163, // sort-numeric-desc
+			0xf0de, // sort-up
+			0xf0e4, // tachometer
+			0xf0ae, // tasks
+			0xf014, // trash-o
+			0xf09c, // unlock
+			0xf13e, // unlock-alt
+			0xf0dc, // unsorted
+			0xf093, // upload
+	};
+
+	private ControlIcons() {
+	}
+
+	/**
+	 * Adds the logo types of the category to IconTable, unless they are in it
+	 * already.
+	 */
+	public static void install() {
+		IconTable.install(CODES, NAMES, CODEPOINTS);
+	}
+}
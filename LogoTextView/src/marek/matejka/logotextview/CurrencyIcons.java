@@ -0,0 +1,115 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * Currency logo types of IconTable.
+ * 
+ * The constants are logo type codes as in <i>res/attrs.xml</i>. Being
+ * compile-time constants, they do not keep this class in a shrunk app, only
+ * install() does (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class CurrencyIcons {
+
+	public static final int BITCOIN = 51;
+	public static final int BTC = 59;
+	public static final int CNY = 105;
+	public static final int DOLLAR = 135;
+	public static final int EUR = 150;
+	public static final int EURO = 151;
+	public static final int GBP = 208;
+	public static final int INR = 246;
+	public static final int JPY = 251;
+	public static final int KRW = 255;
+	public static final int MONEY = 299;
+	public static final int RMB = 356;
+	public static final int ROUBLE = 361;
+	public static final int RUB = 364;
+	public static final int RUBLE = 365;
+	public static final int RUPEE = 366;
+	public static final int TRY_CURRENCY = 462;
+	public static final int TURKISH_LIRA = 465;
+	public static final int USD = 477;
+	public static final int WON = 494;
+	public static final int YEN = 500;
+
+	// codes, names and Unicode of the category, in code order
+	private static final int[] CODES = {
+			51, 59, 105, 135, 150, 151, 208, 246, 251, 255, 299, 356, 361, 364,
+			365, 366, 462, 465, 477, 494, 500 };
+
+	private static final String[] NAMES = {
+			"bitcoin", // 51
+			"btc", // 59
+			"cny", // 105
+			"dollar", // 135
+			"eur", // 150
+			"euro", // 151
+			"gbp", // 208
+			"inr", // 246
+			"jpy", // 251
+			"krw", // 255
+			"money", // 299
+			"rmb", // 356
+			"rouble", // 361
+			"rub", // 364
+			"ruble", // 365
+			"rupee", // 366
+			"try_currency", // 462
+			"turkish-lira", // 465
+			"usd", // 477
+			"won", // 494
+			"yen", // 500
+	};
+
+	private static final char[] CODEPOINTS = {
+			0xf15a, // bitcoin
+			0xf15a, // btc
+			0xf157, // cny
+			0xf155, // dollar
+			0xf153, // eur
+			0xf153, // euro
+			0xf154, // gbp
+			0xf156, // inr
+			0xf157, // jpy
+			0xf159, // krw
+			0xf0d6, // money
+			0xf157, // rmb
+			0xf158, // rouble
+			0xf158, // rub
+			0xf158, // ruble
+			0xf156, // rupee
+			0xf195, // try_currency
+			0xf195, // turkish-lira
+			0xf155, // usd
+			0xf159, // won
+			0xf157, // yen
+	};
+
+	private CurrencyIcons() {
+	}
+
+	/**
+	 * Adds the logo types of the category to IconTable, unless they are in it
+	 * already.
+	 */
+	public static void install() {
+		IconTable.install(CODES, NAMES, CODEPOINTS);
+	}
+}
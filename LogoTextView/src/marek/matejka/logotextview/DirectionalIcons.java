@@ -0,0 +1,214 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * Directional logo types (arrows, chevrons, carets and pointing
+ * hands) of IconTable.
+ * 
+ * The constants are logo type codes as in <i>res/attrs.xml</i>. Being
+ * compile-time constants, they do not keep this class in a shrunk app, only
+ * install() does (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class DirectionalIcons {
+
+	public static final int ANGLE_DOUBLE_DOWN = 10;
+	public static final int ANGLE_DOUBLE_LEFT = 11;
+	public static final int ANGLE_DOUBLE_RIGHT = 12;
+	public static final int ANGLE_DOUBLE_UP = 13;
+	public static final int ANGLE_DOWN = 14;
+	public static final int ANGLE_LEFT = 15;
+	public static final int ANGLE_RIGHT = 16;
+	public static final int ANGLE_UP = 17;
+	public static final int ARROW_CIRCLE_DOWN = 20;
+	public static final int ARROW_CIRCLE_LEFT = 21;
+	public static final int ARROW_CIRCLE_O_DOWN = 22;
+	public static final int ARROW_CIRCLE_O_LEFT = 23;
+	public static final int ARROW_CIRCLE_O_RIGHT = 24;
+	public static final int ARROW_CIRCLE_O_UP = 25;
+	public static final int ARROW_CIRCLE_RIGHT = 26;
+	public static final int ARROW_CIRCLE_UP = 27;
+	public static final int ARROW_DOWN = 28;
+	public static final int ARROW_LEFT = 29;
+	public static final int ARROW_RIGHT = 30;
+	public static final int ARROW_UP = 31;
+	public static final int ARROWS = 32;
+	public static final int ARROWS_ALT = 33;
+	public static final int ARROWS_H = 34;
+	public static final int ARROWS_V = 35;
+	public static final int CARET_DOWN = 71;
+	public static final int CARET_LEFT = 72;
+	public static final int CARET_RIGHT = 73;
+	public static final int CARET_SQUARE_O_DOWN = 74;
+	public static final int CARET_SQUARE_O_LEFT = 75;
+	public static final int CARET_SQUARE_O_RIGHT = 76;
+	public static final int CARET_SQUARE_O_UP = 77;
+	public static final int CARET_UP = 78;
+	public static final int CHEVRON_CIRCLE_DOWN = 87;
+	public static final int CHEVRON_CIRCLE_LEFT = 88;
+	public static final int CHEVRON_CIRCLE_RIGHT = 89;
+	public static final int CHEVRON_CIRCLE_UP = 90;
+	public static final int CHEVRON_DOWN = 91;
+	public static final int CHEVRON_LEFT = 92;
+	public static final int CHEVRON_RIGHT = 93;
+	public static final int CHEVRON_UP = 94;
+	public static final int EXCHANGE = 152;
+	public static final int HAND_O_DOWN = 228;
+	public static final int HAND_O_LEFT = 229;
+	public static final int HAND_O_RIGHT = 230;
+	public static final int HAND_O_UP = 231;
+	public static final int LONG_ARROW_DOWN = 277;
+	public static final int LONG_ARROW_LEFT = 278;
+	public static final int LONG_ARROW_RIGHT = 279;
+	public static final int LONG_ARROW_UP = 280;
+	public static final int TOGGLE_DOWN = 453;
+	public static final int TOGGLE_LEFT = 454;
+	public static final int TOGGLE_RIGHT = 455;
+	public static final int TOGGLE_UP = 456;
+
+	// codes, names and Unicode of the category, in code order
+	private static final int[] CODES = {
+			10, 11, 12, 13, 14, 15, 16, 17, 20, 21, 22, 23, 24, 25, 26, 27, 28,
+			29, 30, 31, 32, 33, 34, 35, 71, 72, 73, 74, 75, 76, 77, 78, 87, 88,
+			89, 90, 91, 92, 93, 94, 152, 228, 229, 230, 231, 277, 278, 279,
+			280, 453, 454, 455, 456 };
+
+	private static final String[] NAMES = {
+			"angle-double-down", // 10
+			"angle-double-left", // 11
+			"angle-double-right", // 12
+			"angle-double-up", // 13
+			"angle-down", // 14
+			"angle-left", // 15
+			"angle-right", // 16
+			"angle-up", // 17
+			"arrow-circle-down", // 20
+			"arrow-circle-left", // 21
+			"arrow-circle-o-down", // 22
+			"arrow-circle-o-left", // 23
+			"arrow-circle-o-right", // 24
+			"arrow-circle-o-up", // 25
+			"arrow-circle-right", // 26
+			"arrow-circle-up", // 27
+			"arrow-down", // 28
+			"arrow-left", // 29
+			"arrow-right", // 30
+			"arrow-up", // 31
+			"arrows", // 32
+			"arrows-alt", // 33
+			"arrows-h", // 34
+			"arrows-v", // 35
+			"caret-down", // 71
+			"caret-left", // 72
+			"caret-right", // 73
+			"caret-square-o-down", // 74
+			"caret-square-o-left", // 75
+			"caret-square-o-right", // 76
+			"caret-square-o-up", // 77
+			"caret-up", // 78
+			"chevron-circle-down", // 87
+			"chevron-circle-left", // 88
+			"chevron-circle-right", // 89
+			"chevron-circle-up", // 90
+			"chevron-down", // 91
+			"chevron-left", // 92
+			"chevron-right", // 93
+			"chevron-up", // 94
+			"exchange", // 152
+			"hand-o-down", // 228
+			"hand-o-left", // 229
+			"hand-o-right", // 230
+			"hand-o-up", // 231
+			"long-arrow-down", // 277
+			"long-arrow-left", // 278
+			"long-arrow-right", // 279
+			"long-arrow-up", // 280
+			"toggle-down", // 453
+			"toggle-left", // 454
+			"toggle-right", // 455
+			"toggle-up", // 456
+	};
+
+	private static final char[] CODEPOINTS = {
+			0xf103, // angle-double-down
+			0xf100, // angle-double-left
+			0xf101, // angle-double-right
+			0xf102, // angle-double-up
+			0xf107, // angle-down
+			0xf104, // angle-left
+			0xf105, // angle-right
+			0xf106, // angle-up
+			0xf0ab, // arrow-circle-down
+			0xf0a8, // arrow-circle-left
+			0xf01a, // arrow-circle-o-down
+			0xf190, // arrow-circle-o-left
+			0xf18e, // arrow-circle-o-right
+			0xf01b, // arrow-circle-o-up
+			0xf0a9, // arrow-circle-right
+			0xf0aa, // arrow-circle-up
+			0xf063, // arrow-down
+			0xf060, // arrow-left
+			0xf061, // arrow-right
+			0xf062, // arrow-up
+			0xf047, // arrows
+			0xf0b2, // arrows-alt
+			0xf07e, // arrows-h
+			0xf07d, // arrows-v
+			0xf0d7, // caret-down
+			0xf0d9, // caret-left
+			0xf0da, // caret-right
+			0xf150, // caret-square-o-down
+			0xf191, // caret-square-o-left
+			0xf152, // caret-square-o-right
+			0xf151, // caret-square-o-up
+			0xf0d8, // caret-up
+			0xf13a, // chevron-circle-down
+			0xf137, // chevron-circle-left
+			0xf138, // chevron-circle-right
+			0xf139, // chevron-circle-up
+			0xf078, // chevron-down
+			0xf053, // chevron-left
+			0xf054, // chevron-right
+			0xf077, // chevron-up
+			0xf0ec, // exchange
+			0xf0a7, // hand-o-down
+			0xf0a5, // hand-o-left
+			0xf0a4, // hand-o-right
+			0xf0a6, // hand-o-up
+			0xf175, // long-arrow-down
+			0xf177, // long-arrow-left
+			0xf178, // long-arrow-right
+			0xf176, // long-arrow-up
+			0xf150, // toggle-down
+			0xf191, // toggle-left
+			0xf152, // toggle-right
+			0xf151, // toggle-up
+	};
+
+	private DirectionalIcons() {
+	}
+
+	/**
+	 * Adds the logo types of the category to IconTable, unless they are in it
+	 * already.
+	 */
+	public static void install() {
+		IconTable.install(CODES, NAMES, CODEPOINTS);
+	}
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * File logo types (documents by type) of IconTable.
+ * 
+ * The constants are logo type codes as in <i>res/attrs.xml</i>. Being
+ * compile-time constants, they do not keep this class in a shrunk app, only
+ * install() does (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class FileIcons {
+
+	public static final int FILE = 168;
+	public static final int FILE_ARCHIVE_O = 169;
+	public static final int FILE_AUDIO_O = 170;
+	public static final int FILE_CODE_O = 171;
+	public static final int FILE_EXCEL_O = 172;
+	public static final int FILE_IMAGE_O = 173;
+	public static final int FILE_MOVIE_O = 174;
+	public static final int FILE_O = 175;
+	public static final int FILE_PDF_O = 176;
+	public static final int FILE_PHOTO_O = 177;
+	public static final int FILE_PICTURE_O = 178;
+	public static final int FILE_POWERPOINT_O = 179;
+	public static final int FILE_SOUND_O = 180;
+	public static final int FILE_TEXT = 181;
+	public static final int FILE_TEXT_O = 182;
+	public static final int FILE_VIDEO_O = 183;
+	public static final int FILE_WORD_O = 184;
+	public static final int FILE_ZIP_O = 185;
+	public static final int FILES_O = 186;
+
+	// codes, names and Unicode of the category, in code order
+	private static final int[] CODES = {
+			168, 169, 170, 171, 172, 173, 174, 175, 176, 177, 178, 179, 180,
+			181, 182, 183, 184, 185, 186 };
+
+	private static final String[] NAMES = {
+			"file", // 168
+			"file-archive-o", // 169
+			"file-audio-o", // 170
+			"file-code-o", // 171
+			"file-excel-o", // 172
+			"file-image-o", // 173
+			"file-movie-o", // 174
+			"file-o", // 175
+			"file-pdf-o", // 176
+			"file-photo-o", // 177
+			"file-picture-o", // 178
+			"file-powerpoint-o", // 179
+			"file-sound-o", // 180
+			"file-text", // 181
+			"file-text-o", // 182
+			"file-video-o", // 183
+			"file-word-o", // 184
+			"file-zip-o", // 185
+			"files-o", // 186
+	};
+
+	private static final char[] CODEPOINTS = {
+			0xf15b, // file
+			0xf1c6, // file-archive-o
+			0xf1c7, // file-audio-o
+			0xf1c9, // file-code-o
+			0xf1c3, // file-excel-o
+			0xf1c5, // file-image-o
+			0xf1c8, // file-movie-o
+			0xf016, // file-o
+			0xf1c1, // file-pdf-o
+			0xf1c5, // file-photo-o
+			0xf1c5, // file-picture-o
+			0xf1c4, // file-powerpoint-o
+			0xf1c7, // file-sound-o
+			0xf15c, // file-text
+			0xf0f6, // file-text-o
+			0xf1c8, // file-video-o
+			0xf1c2, // file-word-o
+			0xf1c6, // file-zip-o
+			0xf0c5, // files-o
+	};
+
+	private FileIcons() {
+	}
+
+	/**
+	 * Adds the logo types of the category to IconTable, unless they are in it
+	 * already.
+	 */
+	public static void install() {
+		IconTable.install(CODES, NAMES, CODEPOINTS);
+	}
+}
@@ -0,0 +1,246 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffColorFilter;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+import android.support.v4.util.LruCache;
+import android.util.SparseArray;
+
+/**
+ * Cache of rendered glyphs, shared by all LogoViews.
+ * 
+ * Glyphs are rendered once per (glyph ID, size) into alpha-only masks, which
+ * are tinted when drawn with a color filter from getTint(). A single mask
+ * therefore serves every color and every pressed or focused state of a view,
+ * and a mask costs a quarter of an ARGB bitmap.
+ * 
+ * For glyphs drawn at changing sizes (e.g. animated), masks can also be taken
+ * from a mip chain: masks at power-of-two sizes, of which the smallest one
+ * not smaller than the drawn size is scaled down with filtering. Every
+ * drawn size then costs the same. Masks of all sizes and all chains share
+ * one memory budget, see setMaxBytes().
+ * 
+ * @author Marek Matejka
+ */
+final class GlyphCache {
+
+	/**
+	 * Smallest and largest size of a mip chain, larger glyphs are drawn from
+	 * the largest level.
+	 */
+	static final int MIN_MIP_SIZE = 8;
+	static final int MAX_MIP_SIZE = 512;
+
+	// by default, masks of all sizes together may take 1/64 of the heap
+	private static LruCache<Long, GlyphMask> sMasks = newCache((int) Math
+			.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 64));
+
+	// color -> filter tinting masks with the color
+	private static final SparseArray<PorterDuffColorFilter> sTints = new SparseArray<PorterDuffColorFilter>();
+
+	// used to render masks, guarded by itself
+	private static final Paint sPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private static final Rect sBounds = new Rect();
+	private static final char[] sGlyph = new char[1];
+
+	private GlyphCache() {
+	}
+
+	private static LruCache<Long, GlyphMask> newCache(int maxBytes) {
+		return new LruCache<Long, GlyphMask>(maxBytes) {
+			@Override
+			protected int sizeOf(Long key, GlyphMask mask) {
+				return mask.bitmap.getRowBytes() * mask.bitmap.getHeight();
+			}
+		};
+	}
+
+	/**
+	 * Sets the memory budget of all cached masks. Cached masks are dropped.
+	 * 
+	 * @param maxBytes
+	 *            Budget in bytes.
+	 */
+	static synchronized void setMaxBytes(int maxBytes) {
+		sMasks = newCache(maxBytes);
+	}
+
+	private static synchronized LruCache<Long, GlyphMask> masks() {
+		return sMasks;
+	}
+
+	/**
+	 * Drops the masks of all glyphs of an icon pack.
+	 * 
+	 * @param packId
+	 *            ID of a released pack.
+	 */
+	static void evictPack(int packId) {
+		LruCache<Long, GlyphMask> masks = masks();
+		for (Long key : masks.snapshot().keySet()) {
+			if (IconPack.getPackId((int) (key.longValue() >>> 32)) == packId) {
+				masks.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Returns the mask of a glyph, rendering it if it is not cached.
+	 * 
+	 * @param typeface
+	 *            Typeface of the glyph.
+	 * @param glyph
+	 *            Character of the glyph.
+	 * @param glyphId
+	 *            Canonical glyph ID, see IconTable and IconPack.
+	 * @param size
+	 *            Text size in pixels.
+	 * @return Mask of the glyph.
+	 */
+	static GlyphMask get(Typeface typeface, char glyph, int glyphId,
+			int size) {
+		final Long key = Long.valueOf(((long) glyphId << 32) | size);
+		LruCache<Long, GlyphMask> masks = masks();
+		GlyphMask mask = masks.get(key);
+		if (mask == null) {
+			mask = render(typeface, glyph, size);
+			masks.put(key, mask);
+		}
+		return mask;
+	}
+
+	/**
+	 * Returns the size of the mip level a glyph is drawn from.
+	 * 
+	 * @param size
+	 *            Size the glyph is drawn at, in pixels.
+	 * @return Smallest power of two not smaller than the size, within
+	 *         MIN_MIP_SIZE and MAX_MIP_SIZE.
+	 */
+	static int getMipSize(float size) {
+		int level = MIN_MIP_SIZE;
+		while (level < size && level < MAX_MIP_SIZE) {
+			level <<= 1;
+		}
+		return level;
+	}
+
+	/**
+	 * Returns the mip level a glyph is drawn from, rendering it if it is not
+	 * cached.
+	 * 
+	 * @param typeface
+	 *            Typeface of the glyph.
+	 * @param glyph
+	 *            Character of the glyph.
+	 * @param glyphId
+	 *            Canonical glyph ID, see IconTable and IconPack.
+	 * @param size
+	 *            Size the glyph is drawn at, in pixels.
+	 * @return Mask to scale down to the size.
+	 */
+	static GlyphMask getMip(Typeface typeface, char glyph, int glyphId,
+			float size) {
+		return get(typeface, glyph, glyphId, getMipSize(size));
+	}
+
+	/**
+	 * Renders all mip levels needed to draw a glyph between two sizes, e.g.
+	 * before an animation starts.
+	 * 
+	 * @param typeface
+	 *            Typeface of the glyph.
+	 * @param glyph
+	 *            Character of the glyph.
+	 * @param glyphId
+	 *            Canonical glyph ID, see IconTable and IconPack.
+	 * @param minSize
+	 *            Smallest size the glyph is drawn at, in pixels.
+	 * @param maxSize
+	 *            Largest size the glyph is drawn at, in pixels.
+	 */
+	static void prepareMipChain(Typeface typeface, char glyph, int glyphId,
+			float minSize, float maxSize) {
+		final int last = getMipSize(maxSize);
+		for (int level = getMipSize(minSize); level <= last; level <<= 1) {
+			get(typeface, glyph, glyphId, level);
+		}
+	}
+
+	private static GlyphMask render(Typeface typeface, char glyph, int size) {
+		synchronized (sPaint) {
+			sPaint.setTypeface(typeface);
+			sPaint.setTextSize(size);
+			sGlyph[0] = glyph;
+			sPaint.getTextBounds(sGlyph, 0, 1, sBounds);
+
+			// one pixel of margin for the antialiased edges
+			final int left = sBounds.left - 1;
+			final int top = sBounds.top - 1;
+			Bitmap bitmap = Bitmap.createBitmap(
+					Math.max(1, sBounds.width() + 2),
+					Math.max(1, sBounds.height() + 2), Bitmap.Config.ALPHA_8);
+			new Canvas(bitmap).drawText(sGlyph, 0, 1, -left, -top, sPaint);
+			return new GlyphMask(bitmap, size, left, top);
+		}
+	}
+
+	/**
+	 * Returns the filter drawing masks in a color. Filters are shared, so
+	 * setting the filter of a paint does not allocate after the first use of
+	 * a color.
+	 * 
+	 * @param color
+	 *            Color of the glyph.
+	 * @return Filter for a paint drawing a mask.
+	 */
+	static PorterDuffColorFilter getTint(int color) {
+		synchronized (sTints) {
+			PorterDuffColorFilter tint = sTints.get(color);
+			if (tint == null) {
+				tint = new PorterDuffColorFilter(color, PorterDuff.Mode.SRC_IN);
+				sTints.put(color, tint);
+			}
+			return tint;
+		}
+	}
+
+	/**
+	 * Alpha-only rendering of a glyph.
+	 */
+	static final class GlyphMask {
+		final Bitmap bitmap;
+		// text size the glyph was rendered at
+		final int size;
+		// position of the bitmap relative to the origin of the glyph
+		final int left;
+		final int top;
+
+		GlyphMask(Bitmap bitmap, int size, int left, int top) {
+			this.bitmap = bitmap;
+			this.size = size;
+			this.left = left;
+			this.top = top;
+		}
+	}
+}
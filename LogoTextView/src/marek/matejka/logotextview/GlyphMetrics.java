@@ -0,0 +1,167 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import java.util.Arrays;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+
+/**
+ * Cache of the ink bounds of glyphs, shared by all LogoViews.
+ *
+ * Bounds are measured once per (glyph ID, text size) pair, so aliases of a
+ * glyph share their entry. They are stored in an open-addressing table keyed
+ * by a primitive long, so a lookup neither allocates nor boxes. The table
+ * stops growing at MAX_CAPACITY and is cleared when full, so animated text
+ * sizes cannot make it grow without limit.
+ *
+ * @author Marek Matejka
+ */
+final class GlyphMetrics {
+
+	private static final int INITIAL_CAPACITY = 64; // must be a power of two
+	private static final int MAX_CAPACITY = 4096; // must be a power of two
+
+	// key 0 never occurs, as glyph IDs are stored + 1
+	private static long[] sKeys = new long[INITIAL_CAPACITY];
+	// left, top, right, bottom of each entry
+	private static int[] sBounds = new int[INITIAL_CAPACITY * 4];
+	private static int sSize;
+
+	private static final char[] sGlyph = new char[1];
+
+	private GlyphMetrics() {
+	}
+
+	/**
+	 * Returns the ink bounds of a glyph drawn with the given paint, relative to
+	 * the origin of the glyph on the baseline.
+	 *
+	 * @param glyphId
+	 *            Canonical glyph ID, see IconTable and IconPack.
+	 * @param glyph
+	 *            Character of the glyph.
+	 * @param paint
+	 *            Paint the glyph is drawn with (typeface and text size).
+	 * @param out
+	 *            Rect the bounds are written to.
+	 */
+	static synchronized void getBounds(int glyphId, char glyph, Paint paint,
+			Rect out) {
+		final long key = key(glyphId, paint.getTextSize());
+		int index = indexOf(key);
+		if (sKeys[index] != key) {
+			sGlyph[0] = glyph;
+			paint.getTextBounds(sGlyph, 0, 1, out);
+			index = insert(key, out);
+		}
+
+		final int offset = index * 4;
+		out.left = sBounds[offset];
+		out.top = sBounds[offset + 1];
+		out.right = sBounds[offset + 2];
+		out.bottom = sBounds[offset + 3];
+	}
+
+	/**
+	 * Drops the bounds of all glyphs of an icon pack.
+	 * 
+	 * @param packId
+	 *            ID of a released pack.
+	 */
+	static synchronized void evictPack(int packId) {
+		final long[] oldKeys = sKeys;
+		final int[] oldBounds = sBounds;
+		sKeys = new long[oldKeys.length];
+		sBounds = new int[oldBounds.length];
+		sSize = 0;
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			final long key = oldKeys[i];
+			if (key != 0
+					&& IconPack.getPackId((int) (key >>> 32) - 1) != packId) {
+				final int index = indexOf(key);
+				sKeys[index] = key;
+				System.arraycopy(oldBounds, i * 4, sBounds, index * 4, 4);
+				sSize++;
+			}
+		}
+	}
+
+	private static long key(int glyphId, float textSize) {
+		return ((long) (glyphId + 1) << 32)
+				| (Float.floatToIntBits(textSize) & 0xffffffffL);
+	}
+
+	/**
+	 * @return Slot holding the key, or the empty slot it would be put in.
+	 */
+	private static int indexOf(long key) {
+		final int mask = sKeys.length - 1;
+		int index = hash(key) & mask;
+		while (sKeys[index] != 0 && sKeys[index] != key) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	private static int insert(long key, Rect bounds) {
+		if ((sSize + 1) * 2 > sKeys.length) {
+			if (sKeys.length < MAX_CAPACITY) {
+				grow();
+			} else {
+				clear();
+			}
+		}
+
+		final int index = indexOf(key);
+		sKeys[index] = key;
+		final int offset = index * 4;
+		sBounds[offset] = bounds.left;
+		sBounds[offset + 1] = bounds.top;
+		sBounds[offset + 2] = bounds.right;
+		sBounds[offset + 3] = bounds.bottom;
+		sSize++;
+		return index;
+	}
+
+	private static void grow() {
+		final long[] oldKeys = sKeys;
+		final int[] oldBounds = sBounds;
+		sKeys = new long[oldKeys.length * 2];
+		sBounds = new int[sKeys.length * 4];
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+				final int index = indexOf(oldKeys[i]);
+				sKeys[index] = oldKeys[i];
+				System.arraycopy(oldBounds, i * 4, sBounds, index * 4, 4);
+			}
+		}
+	}
+
+	private static void clear() {
+		Arrays.fill(sKeys, 0);
+		sSize = 0;
+	}
+
+	private static int hash(long key) {
+		long h = key * 0x9e3779b97f4a7c15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
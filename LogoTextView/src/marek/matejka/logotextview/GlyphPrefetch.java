@@ -0,0 +1,329 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.content.res.XmlResourceParser;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+/**
+ * Warms the glyph caches for icons a screen is about to show, on the
+ * low-priority background thread of the library, so that its LogoViews find
+ * everything cached when they are first drawn.
+ * 
+ * Icons are added with their text size (or read from a layout), then start()
+ * queues the work and cancel() drops what has not run yet. The same icon at
+ * the same size requested by several prefetches is rendered once. Built-in
+ * logo types are warmed in the pack of the current IconTheme, as LogoViews
+ * draw them, so add icons after the theme is applied.
+ * 
+ * <pre>
+ * mPrefetch = new GlyphPrefetch(context).addLayout(R.layout.next_screen,
+ * 		defaultTextSize).addColor(color).start();
+ * </pre>
+ * 
+ * @author Marek Matejka
+ */
+public final class GlyphPrefetch {
+
+	/**
+	 * Measures the ink bounds used by <i>tight_bounds</i> and loads the font.
+	 */
+	public static final int METRICS = 1;
+
+	/**
+	 * Renders the mask used in spin mode.
+	 */
+	public static final int MASK = 2;
+
+	/**
+	 * Renders the mip level used in mip-mapped mode at glyph scale 1.
+	 */
+	public static final int MIP = 4;
+
+	private static final int[] TEXT_SIZE = { android.R.attr.textSize };
+
+	// (glyph ID, text size) -> queued task, guarded by itself
+	private static final HashMap<Long, Task> sQueued = new HashMap<Long, Task>();
+
+	// used by the background thread only
+	private static final Paint sPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+	private static final Rect sBounds = new Rect();
+
+	private final Context mContext;
+	private final ArrayList<Task> mTasks = new ArrayList<Task>();
+	private final ArrayList<Integer> mColors = new ArrayList<Integer>();
+	private boolean mStarted;
+	private boolean mCancelled;
+
+	/**
+	 * @param context
+	 *            Any context of the application, also used to resolve the
+	 *            styles of layouts added by addLayout().
+	 */
+	public GlyphPrefetch(Context context) {
+		mContext = context;
+	}
+
+	/**
+	 * Adds a built-in icon, warming what a LogoView needs in all modes but
+	 * mip-mapped (METRICS | MASK).
+	 * 
+	 * @param code
+	 *            Logo type code.
+	 * @param textSize
+	 *            Text size of the LogoView, in pixels.
+	 * @return This prefetch.
+	 */
+	public GlyphPrefetch add(int code, float textSize) {
+		return add(null, code, textSize, METRICS | MASK);
+	}
+
+	/**
+	 * Adds an icon.
+	 * 
+	 * @param pack
+	 *            Icon pack of the icon, null for the built-in logo types
+	 *            (themed by IconTheme).
+	 * @param code
+	 *            Code of the icon.
+	 * @param textSize
+	 *            Text size of the LogoView, in pixels.
+	 * @param what
+	 *            What to warm, a combination of METRICS, MASK and MIP.
+	 * @return This prefetch.
+	 */
+	public GlyphPrefetch add(IconPack pack, int code, float textSize,
+			int what) {
+		if (mStarted) {
+			throw new IllegalStateException("Prefetch already started");
+		}
+		if (pack == null && IconTable.isValid(code)) {
+			// the glyph LogoView draws, see LogoView.resolveGlyph()
+			final int themed = IconTheme.getThemedCode(code);
+			if (themed != -1) {
+				pack = IconTheme.getPack();
+				code = themed;
+			}
+		}
+		final int glyphId = pack == null ? IconTable.getGlyphId(code) : pack
+				.getGlyphId(code);
+		if (glyphId == IconTable.NO_GLYPH) {
+			throw new IllegalArgumentException("Unknown icon " + code);
+		}
+		final char glyph = pack == null ? IconTable.getGlyph(glyphId) : pack
+				.getGlyph(glyphId);
+		mTasks.add(new Task(pack, glyph, glyphId, textSize, what));
+		return this;
+	}
+
+	/**
+	 * Adds every LogoView of a layout with its logo type and text size,
+	 * warming what its attributes need (MASK for <i>spin</i>, MIP for
+	 * <i>mip_mapped</i>). Layouts pulled in with <i>&lt;include&gt;</i> are
+	 * read too. Views with a label are skipped, see
+	 * LabelLayoutCache.prefetch().
+	 * 
+	 * @param layout
+	 *            Layout resource.
+	 * @param defaultTextSize
+	 *            Text size of LogoViews without <i>android:textSize</i>, in
+	 *            pixels.
+	 * @return This prefetch.
+	 */
+	public GlyphPrefetch addLayout(int layout, float defaultTextSize) {
+		final String logoView = LogoView.class.getName();
+		XmlResourceParser parser = mContext.getResources().getLayout(layout);
+		try {
+			int event;
+			while ((event = parser.next()) != XmlPullParser.END_DOCUMENT) {
+				if (event != XmlPullParser.START_TAG) {
+					continue;
+				}
+				if ("include".equals(parser.getName())) {
+					final int included = parser.getAttributeResourceValue(
+							null, "layout", 0);
+					if (included != 0) {
+						addLayout(included, defaultTextSize);
+					}
+					continue;
+				}
+				if (!logoView.equals(parser.getName())) {
+					continue;
+				}
+				LogoAttributes logo = LogoAttributes.obtain(mContext, parser);
+				if (logo.label != null || !IconTable.isValid(logo.code)) {
+					continue;
+				}
+				TypedArray a = mContext.obtainStyledAttributes(parser,
+						TEXT_SIZE);
+				final float textSize = a.getDimension(0, defaultTextSize);
+				a.recycle();
+
+				int what = METRICS;
+				if (logo.spin) {
+					what |= MASK;
+				}
+				if (logo.mipMapped) {
+					what |= MIP;
+				}
+				add(null, logo.code, textSize, what);
+			}
+		} catch (XmlPullParserException e) {
+			throw new IllegalArgumentException("Cannot read layout " + layout,
+					e);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Cannot read layout " + layout,
+					e);
+		} finally {
+			parser.close();
+		}
+		return this;
+	}
+
+	/**
+	 * Adds a text color the icons are drawn in, so its filter for glyph masks
+	 * exists (masks themselves do not depend on the color).
+	 * 
+	 * @param color
+	 *            Text color.
+	 * @return This prefetch.
+	 */
+	public GlyphPrefetch addColor(int color) {
+		mColors.add(Integer.valueOf(color));
+		return this;
+	}
+
+	/**
+	 * Queues the added icons on the background thread. Icons already queued
+	 * by another prefetch are not queued again.
+	 * 
+	 * @return This prefetch, to be cancelled e.g. when the navigation is
+	 *         aborted.
+	 */
+	public GlyphPrefetch start() {
+		if (mStarted) {
+			throw new IllegalStateException("Prefetch already started");
+		}
+		mStarted = true;
+
+		for (Integer color : mColors) {
+			GlyphCache.getTint(color.intValue());
+		}
+
+		final Context appContext = mContext.getApplicationContext();
+		synchronized (sQueued) {
+			for (int i = 0; i < mTasks.size(); i++) {
+				Task task = mTasks.get(i);
+				Task queued = sQueued.get(task.key);
+				if (queued != null) {
+					// coalesce with the queued task
+					queued.what |= task.what;
+					queued.prefetches++;
+					mTasks.set(i, queued);
+				} else {
+					task.context = appContext;
+					task.prefetches = 1;
+					sQueued.put(task.key, task);
+					BackgroundExecutor.get().execute(task);
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Drops the icons that have not been warmed yet, unless another
+	 * prefetch still needs them.
+	 */
+	public void cancel() {
+		synchronized (sQueued) {
+			if (!mStarted || mCancelled) {
+				return;
+			}
+			mCancelled = true;
+			for (Task task : mTasks) {
+				if (--task.prefetches == 0 && sQueued.get(task.key) == task) {
+					sQueued.remove(task.key);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Warming of one glyph at one text size, shared by all prefetches that
+	 * requested it while it was queued.
+	 */
+	private static final class Task implements Runnable {
+		final Long key;
+		final IconPack pack;
+		final char glyph;
+		final int glyphId;
+		final float textSize;
+		// guarded by sQueued
+		Context context;
+		int what;
+		int prefetches;
+
+		Task(IconPack pack, char glyph, int glyphId, float textSize, int what) {
+			this.key = Long.valueOf(((long) glyphId << 32)
+					| (Float.floatToIntBits(textSize) & 0xffffffffL));
+			this.pack = pack;
+			this.glyph = glyph;
+			this.glyphId = glyphId;
+			this.textSize = textSize;
+			this.what = what;
+		}
+
+		@Override
+		public void run() {
+			final int todo;
+			synchronized (sQueued) {
+				if (prefetches == 0) {
+					// cancelled
+					return;
+				}
+				sQueued.remove(key);
+				todo = what;
+			}
+
+			final Typeface typeface = pack == null ? Typefaces
+					.getFontAwesome(context) : pack.getTypeface();
+			if ((todo & METRICS) != 0) {
+				sPaint.setTypeface(typeface);
+				sPaint.setTextSize(textSize);
+				GlyphMetrics.getBounds(glyphId, glyph, sPaint, sBounds);
+			}
+			if ((todo & MASK) != 0) {
+				GlyphCache.get(typeface, glyph, glyphId, Math.round(textSize));
+			}
+			if ((todo & MIP) != 0) {
+				GlyphCache.getMip(typeface, glyph, glyphId, textSize);
+			}
+		}
+	}
+}
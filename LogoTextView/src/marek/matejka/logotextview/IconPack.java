@@ -0,0 +1,360 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import android.graphics.Typeface;
+
+/**
+ * Icon font loaded at runtime from a file, e.g. a seasonal or tenant-specific
+ * font downloaded into the app-private storage, with its own table of icon
+ * names.
+ * 
+ * The typeface is created straight from the file, which is read by the font
+ * engine as needed instead of being copied into memory. Packs are
+ * reference-counted: registering the same file again returns the same pack,
+ * and only the last release() drops the typeface and the glyphs, metrics and
+ * label layouts cached for the pack. LogoViews still showing the pack keep
+ * drawing it until they are given another logo.
+ * 
+ * Icons of a pack are numbered by codes 1 to getMaxCode() in the order of its
+ * name table, like the logo types of the built-in table (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class IconPack {
+
+	/**
+	 * Glyph IDs of a pack are (pack ID << PACK_SHIFT) | index, glyph IDs of
+	 * the built-in table have pack ID 0.
+	 */
+	static final int PACK_SHIFT = 16;
+
+	private static final int MAX_GLYPHS = 1 << PACK_SHIFT;
+	private static final int MAX_PACK_ID = 0x7fff;
+
+	// canonical path of the font -> registered pack
+	private static final HashMap<String, IconPack> sPacks = new HashMap<String, IconPack>();
+	// IDs are not reused, so nothing cached for a released pack can be
+	// mistaken for a glyph of a later one
+	private static int sLastId;
+
+	private final int mId;
+	private final String mPath;
+	private final Typeface mTypeface;
+	// indexed by code - 1
+	private final String[] mNames;
+	private final char[] mGlyphs;
+	private final String[] mTexts;
+	private final HashMap<String, Integer> mCodes;
+	private int mRefCount;
+
+	private IconPack(int id, String path, Typeface typeface, String[] names,
+			int[] codepoints) {
+		mId = id;
+		mPath = path;
+		mTypeface = typeface;
+		mNames = new String[names.length];
+		mGlyphs = new char[names.length];
+		mTexts = new String[names.length];
+		mCodes = new HashMap<String, Integer>(names.length * 2);
+		for (int i = 0; i < names.length; i++) {
+			mNames[i] = normalize(names[i]);
+			mGlyphs[i] = (char) codepoints[i];
+			// the first icon of a name wins, like in IconTable
+			if (!mCodes.containsKey(mNames[i])) {
+				mCodes.put(mNames[i], Integer.valueOf(i + 1));
+			}
+		}
+	}
+
+	/**
+	 * Registers an icon font, or acquires one more reference to it if it is
+	 * already registered (in which case the name table given here is
+	 * ignored).
+	 * 
+	 * @param fontFile
+	 *            Font file, e.g. in Context.getFilesDir().
+	 * @param names
+	 *            Names of the icons, '-' and '_' are interchangeable.
+	 * @param codepoints
+	 *            Codepoints of the icons in the font, same order as the names.
+	 * @return The registered pack, to be released when no longer needed.
+	 * @throws IOException
+	 *             If the font file cannot be read.
+	 */
+	public static synchronized IconPack register(File fontFile,
+			String[] names, int[] codepoints) throws IOException {
+		if (names.length != codepoints.length) {
+			throw new IllegalArgumentException(names.length + " names but "
+					+ codepoints.length + " codepoints");
+		}
+		if (names.length > MAX_GLYPHS) {
+			throw new IllegalArgumentException("Too many icons: "
+					+ names.length);
+		}
+		for (int codepoint : codepoints) {
+			if (codepoint < 0 || codepoint > Character.MAX_VALUE) {
+				throw new IllegalArgumentException("Invalid codepoint "
+						+ Integer.toHexString(codepoint));
+			}
+		}
+
+		final String path = fontFile.getCanonicalPath();
+		IconPack pack = sPacks.get(path);
+		if (pack == null) {
+			if (!fontFile.isFile()) {
+				throw new IOException("No font file " + path);
+			}
+			if (sLastId == MAX_PACK_ID) {
+				throw new IllegalStateException("Too many icon packs");
+			}
+			pack = new IconPack(sLastId + 1, path,
+					Typeface.createFromFile(fontFile), names, codepoints);
+			sLastId = pack.mId;
+			if (LogoProfiler.sEnabled) {
+				LogoProfiler.count(LogoProfiler.FONT_LOADS,
+						LogoProfiler.NO_ICON);
+			}
+			sPacks.put(path, pack);
+		}
+		pack.mRefCount++;
+		return pack;
+	}
+
+	/**
+	 * Registers an icon font with a name table file. Each line of the table
+	 * holds a name and a hexadecimal codepoint separated by whitespace, e.g.
+	 * <i>snowflake f2dc</i>. Blank lines and lines starting with '#' are
+	 * skipped.
+	 * 
+	 * @param fontFile
+	 *            Font file, e.g. in Context.getFilesDir().
+	 * @param nameTable
+	 *            Name table file, UTF-8.
+	 * @return The registered pack, to be released when no longer needed.
+	 * @throws IOException
+	 *             If a file cannot be read or the table is malformed.
+	 */
+	public static IconPack register(File fontFile, File nameTable)
+			throws IOException {
+		ArrayList<String> names = new ArrayList<String>();
+		ArrayList<Integer> codepoints = new ArrayList<Integer>();
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(
+				new FileInputStream(nameTable), "UTF-8"));
+		try {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				line = line.trim();
+				if (line.length() == 0 || line.charAt(0) == '#') {
+					continue;
+				}
+				String[] fields = line.split("\\s+");
+				if (fields.length != 2) {
+					throw new IOException(nameTable + ":" + lineNumber
+							+ ": expected name and codepoint");
+				}
+				try {
+					codepoints.add(Integer.valueOf(fields[1], 16));
+				} catch (NumberFormatException e) {
+					throw new IOException(nameTable + ":" + lineNumber
+							+ ": invalid codepoint " + fields[1]);
+				}
+				names.add(fields[0]);
+			}
+		} finally {
+			reader.close();
+		}
+
+		int[] table = new int[codepoints.size()];
+		for (int i = 0; i < table.length; i++) {
+			table[i] = codepoints.get(i).intValue();
+		}
+		return register(fontFile, names.toArray(new String[names.size()]),
+				table);
+	}
+
+	/**
+	 * @param path
+	 *            Canonical path of a font file.
+	 * @return The registered pack of the font, null if there is none.
+	 */
+	static synchronized IconPack find(String path) {
+		return sPacks.get(path);
+	}
+
+	/**
+	 * Acquires one more reference to the pack.
+	 */
+	void acquire() {
+		synchronized (IconPack.class) {
+			if (mRefCount == 0) {
+				throw new IllegalStateException("Icon pack " + mPath
+						+ " already released");
+			}
+			mRefCount++;
+		}
+	}
+
+	/**
+	 * Releases one reference to the pack. The last release unregisters it and
+	 * evicts everything cached for it.
+	 */
+	public void release() {
+		synchronized (IconPack.class) {
+			if (mRefCount == 0) {
+				throw new IllegalStateException("Icon pack " + mPath
+						+ " already released");
+			}
+			if (--mRefCount > 0) {
+				return;
+			}
+			sPacks.remove(mPath);
+		}
+		GlyphCache.evictPack(mId);
+		GlyphMetrics.evictPack(mId);
+		LabelLayoutCache.evictPack(mId, mTypeface);
+	}
+
+	/**
+	 * @return true once the last reference to the pack has been released.
+	 */
+	public boolean isReleased() {
+		synchronized (IconPack.class) {
+			return mRefCount == 0;
+		}
+	}
+
+	/**
+	 * @return Largest code of the pack, codes start at 1.
+	 */
+	public int getMaxCode() {
+		return mNames.length;
+	}
+
+	/**
+	 * @param code
+	 *            Code of an icon of the pack.
+	 * @return true if the pack has an icon of the code.
+	 */
+	public boolean isValid(int code) {
+		return code >= 1 && code <= mNames.length;
+	}
+
+	/**
+	 * @param code
+	 *            Code of an icon of the pack.
+	 * @return Name of the icon, with '-' as separator.
+	 */
+	public String getName(int code) {
+		return mNames[code - 1];
+	}
+
+	/**
+	 * @param name
+	 *            Name of an icon, with '-' or '_' as separator.
+	 * @return Code of the icon, or -1 if the pack has no icon of the name.
+	 */
+	public int findCode(String name) {
+		Integer code = mCodes.get(normalize(name));
+		return code != null ? code.intValue() : -1;
+	}
+
+	/**
+	 * @return ID of the pack, unique for the lifetime of the process.
+	 */
+	int getId() {
+		return mId;
+	}
+
+	/**
+	 * @return The path of the font file.
+	 */
+	public String getPath() {
+		return mPath;
+	}
+
+	/**
+	 * @return Typeface created from the font file.
+	 */
+	Typeface getTypeface() {
+		return mTypeface;
+	}
+
+	/**
+	 * @param code
+	 *            Code of an icon of the pack.
+	 * @return Glyph ID of the icon, or IconTable.NO_GLYPH if the code is
+	 *         unknown.
+	 */
+	int getGlyphId(int code) {
+		return isValid(code) ? (mId << PACK_SHIFT) | (code - 1)
+				: IconTable.NO_GLYPH;
+	}
+
+	/**
+	 * @param glyphId
+	 *            Glyph ID of an icon of this pack.
+	 * @return Character of the icon in the font.
+	 */
+	char getGlyph(int glyphId) {
+		return mGlyphs[glyphId & (MAX_GLYPHS - 1)];
+	}
+
+	/**
+	 * @param glyphId
+	 *            Glyph ID of an icon of this pack.
+	 * @return Text of the icon, shared by all callers.
+	 */
+	String getText(int glyphId) {
+		final int index = glyphId & (MAX_GLYPHS - 1);
+		String text = mTexts[index];
+		if (text == null) {
+			// racing threads may create equal strings, which is harmless
+			text = String.valueOf(mGlyphs[index]);
+			mTexts[index] = text;
+			if (LogoProfiler.sEnabled) {
+				LogoProfiler.count(LogoProfiler.TEXT_ALLOCS,
+						LogoProfiler.iconKey(this, index + 1));
+			}
+		}
+		return text;
+	}
+
+	/**
+	 * @param glyphId
+	 *            Any glyph ID.
+	 * @return ID of the pack the glyph belongs to, 0 for the built-in table.
+	 */
+	static int getPackId(int glyphId) {
+		return glyphId >>> PACK_SHIFT;
+	}
+
+	private static String normalize(String name) {
+		return name.replace('_', '-');
+	}
+}
@@ -0,0 +1,400 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Search index over the names of logo types, meant for icon pickers that
+ * filter the icons as the user types.
+ * 
+ * Every name is indexed from its start and from the start of each of its
+ * words (<i>arrow-circle-right</i> is found by <i>arr</i>, <i>circ</i> or
+ * <i>right</i>), optionally together with extra keywords. The index is a
+ * prefix trie stored in flat arrays, where each node keeps the sorted codes of
+ * all names below it, so a {@link Query} refines its result by one step per
+ * typed character and never rescans the names.
+ * 
+ * Instances are immutable and can be shared between threads, a Query can only
+ * be used by one thread at a time.
+ * 
+ * @author Marek Matejka
+ */
+public final class IconSearch {
+
+	private static final int ROOT = 0;
+	private static final int NO_NODE = -1;
+
+	// trie nodes, children of a node are linked in order of their labels
+	private final char[] mLabels;
+	private final int[] mFirstChild;
+	private final int[] mNextSibling;
+
+	// codes of node n are mCodes[mCodeStart[n]] to mCodes[mCodeStart[n + 1] - 1]
+	private final int[] mCodeStart;
+	private final int[] mCodes;
+
+	private IconSearch(char[] labels, int[] firstChild, int[] nextSibling,
+			int[] codeStart, int[] codes) {
+		mLabels = labels;
+		mFirstChild = firstChild;
+		mNextSibling = nextSibling;
+		mCodeStart = codeStart;
+		mCodes = codes;
+	}
+
+	/**
+	 * Creates an index of all names in the IconTable.
+	 * 
+	 * @return New index, build it once and keep it.
+	 */
+	public static IconSearch create() {
+		return new Builder().addIconTable().build();
+	}
+
+	/**
+	 * @return New empty query on this index.
+	 */
+	public Query newQuery() {
+		return new Query();
+	}
+
+	/**
+	 * Returns the codes of all logo types matching a text.
+	 * 
+	 * @param text
+	 *            Searched text.
+	 * @return Codes in ascending order.
+	 */
+	public int[] search(CharSequence text) {
+		Query query = new Query();
+		query.setText(text);
+		return query.getCodes();
+	}
+
+	private int findChild(int node, char label) {
+		int child = mFirstChild[node];
+		while (child != NO_NODE && mLabels[child] < label) {
+			child = mNextSibling[child];
+		}
+		return child != NO_NODE && mLabels[child] == label ? child : NO_NODE;
+	}
+
+	// Arrays.copyOf() needs API level 9
+
+	private static int[] copyOf(int[] array, int start, int length) {
+		int[] copy = new int[length];
+		System.arraycopy(array, start, copy, 0, Math.min(length,
+				array.length - start));
+		return copy;
+	}
+
+	private static char[] copyOf(char[] array, int start, int length) {
+		char[] copy = new char[length];
+		System.arraycopy(array, start, copy, 0, Math.min(length,
+				array.length - start));
+		return copy;
+	}
+
+	private static int[][] copyOf(int[][] array, int start, int length) {
+		int[][] copy = new int[length][];
+		System.arraycopy(array, start, copy, 0, Math.min(length,
+				array.length - start));
+		return copy;
+	}
+
+	private static char normalize(char c) {
+		if (c == ' ' || c == '_') {
+			return '-';
+		}
+		return Character.toLowerCase(c);
+	}
+
+	/**
+	 * Incremental search on the index. Every appended character refines the
+	 * previous result by a single step in the trie, deleting a character goes
+	 * back to the previous result without any search at all.
+	 */
+	public final class Query {
+
+		// node matched after each typed character, mPath[0] is the root
+		private int[] mPath = new int[16];
+		private char[] mText = new char[16];
+		private int mLength;
+
+		private Query() {
+			mPath[0] = ROOT;
+		}
+
+		/**
+		 * Refines the query by one more character.
+		 * 
+		 * @param c
+		 *            Typed character.
+		 */
+		public void append(char c) {
+			if (mLength + 1 == mPath.length) {
+				mPath = copyOf(mPath, 0, mPath.length * 2);
+				mText = copyOf(mText, 0, mText.length * 2);
+			}
+
+			c = normalize(c);
+			int node = mPath[mLength];
+			mText[mLength] = c;
+			mPath[++mLength] = node == NO_NODE ? NO_NODE : findChild(node, c);
+		}
+
+		/**
+		 * Removes the last character of the query.
+		 */
+		public void backspace() {
+			if (mLength > 0) {
+				mLength--;
+			}
+		}
+
+		/**
+		 * Removes all characters of the query, which then matches everything.
+		 */
+		public void clear() {
+			mLength = 0;
+		}
+
+		/**
+		 * Sets the whole text of the query. Only the characters following the
+		 * part shared with the previous text are searched.
+		 * 
+		 * @param text
+		 *            New text of the query.
+		 */
+		public void setText(CharSequence text) {
+			int common = 0;
+			final int length = text.length();
+			while (common < mLength && common < length
+					&& mText[common] == normalize(text.charAt(common))) {
+				common++;
+			}
+
+			mLength = common;
+			for (int i = common; i < length; i++) {
+				append(text.charAt(i));
+			}
+		}
+
+		/**
+		 * @return Number of logo types matching the query.
+		 */
+		public int getCount() {
+			final int node = mPath[mLength];
+			return node == NO_NODE ? 0 : mCodeStart[node + 1]
+					- mCodeStart[node];
+		}
+
+		/**
+		 * @param index
+		 *            Index of the result, from 0 to getCount() - 1.
+		 * @return Code of the logo type, results are in ascending order.
+		 */
+		public int getCode(int index) {
+			return mCodes[mCodeStart[mPath[mLength]] + index];
+		}
+
+		/**
+		 * @return Copy of the codes matching the query, in ascending order.
+		 */
+		public int[] getCodes() {
+			final int node = mPath[mLength];
+			if (node == NO_NODE) {
+				return new int[0];
+			}
+			return copyOf(mCodes, mCodeStart[node], mCodeStart[node + 1]
+					- mCodeStart[node]);
+		}
+	}
+
+	/**
+	 * Collects names and keywords of logo types and builds an IconSearch.
+	 */
+	public static final class Builder {
+
+		private final ArrayList<String> mKeys = new ArrayList<String>();
+		private int[] mKeyCodes = new int[64];
+
+		/**
+		 * Adds the names of all logo types in the IconTable.
+		 * 
+		 * @return This builder.
+		 */
+		public Builder addIconTable() {
+			for (int code = 1; code <= IconTable.getMaxCode(); code++) {
+				if (IconTable.isValid(code)) {
+					addName(code, IconTable.getName(code));
+				}
+			}
+			return this;
+		}
+
+		/**
+		 * Adds a name (or keyword) of a logo type. The name is found by its
+		 * beginning and by the beginning of each of its words.
+		 * 
+		 * @param code
+		 *            Logo type code.
+		 * @param name
+		 *            Name or keyword, words are separated by '-', '_' or ' '.
+		 * @return This builder.
+		 */
+		public Builder addName(int code, String name) {
+			final int length = name.length();
+			char[] key = new char[length];
+			for (int i = 0; i < length; i++) {
+				key[i] = normalize(name.charAt(i));
+			}
+
+			for (int start = 0; start < length; start++) {
+				if (key[start] != '-' && (start == 0 || key[start - 1] == '-')) {
+					addKey(code, new String(key, start, length - start));
+				}
+			}
+			return this;
+		}
+
+		private void addKey(int code, String key) {
+			if (mKeys.size() == mKeyCodes.length) {
+				mKeyCodes = copyOf(mKeyCodes, 0, mKeyCodes.length * 2);
+			}
+			mKeyCodes[mKeys.size()] = code;
+			mKeys.add(key);
+		}
+
+		/**
+		 * @return New index of all added names.
+		 */
+		public IconSearch build() {
+			final int keyCount = mKeys.size();
+
+			// insert keys in order of their codes, so the codes collected by
+			// every node come out sorted and duplicates are adjacent
+			long[] order = new long[keyCount];
+			for (int i = 0; i < keyCount; i++) {
+				order[i] = ((long) mKeyCodes[i] << 32) | i;
+			}
+			Arrays.sort(order);
+
+			NodeBuffer nodes = new NodeBuffer();
+			for (int i = 0; i < keyCount; i++) {
+				final int code = (int) (order[i] >>> 32);
+				final String key = mKeys.get((int) order[i]);
+				int node = ROOT;
+				nodes.addCode(node, code);
+				for (int j = 0; j < key.length(); j++) {
+					node = nodes.child(node, key.charAt(j));
+					nodes.addCode(node, code);
+				}
+			}
+			return nodes.toIconSearch();
+		}
+	}
+
+	/**
+	 * Growable trie used while building.
+	 */
+	private static final class NodeBuffer {
+
+		private char[] mLabels = new char[256];
+		private int[] mFirstChild = new int[256];
+		private int[] mNextSibling = new int[256];
+		private int[][] mCodes = new int[256][];
+		private int[] mCodeCounts = new int[256];
+		private int mSize;
+		private int mTotalCodes;
+
+		NodeBuffer() {
+			newNode('\0');
+		}
+
+		private int newNode(char label) {
+			if (mSize == mLabels.length) {
+				final int capacity = mSize * 2;
+				mLabels = copyOf(mLabels, 0, capacity);
+				mFirstChild = copyOf(mFirstChild, 0, capacity);
+				mNextSibling = copyOf(mNextSibling, 0, capacity);
+				mCodes = copyOf(mCodes, 0, capacity);
+				mCodeCounts = copyOf(mCodeCounts, 0, capacity);
+			}
+			mLabels[mSize] = label;
+			mFirstChild[mSize] = NO_NODE;
+			mNextSibling[mSize] = NO_NODE;
+			mCodes[mSize] = new int[4];
+			return mSize++;
+		}
+
+		/**
+		 * @return Child of the node with the label, created if needed.
+		 */
+		int child(int node, char label) {
+			int previous = NO_NODE;
+			int child = mFirstChild[node];
+			while (child != NO_NODE && mLabels[child] < label) {
+				previous = child;
+				child = mNextSibling[child];
+			}
+			if (child != NO_NODE && mLabels[child] == label) {
+				return child;
+			}
+
+			final int created = newNode(label);
+			mNextSibling[created] = child;
+			if (previous == NO_NODE) {
+				mFirstChild[node] = created;
+			} else {
+				mNextSibling[previous] = created;
+			}
+			return created;
+		}
+
+		void addCode(int node, int code) {
+			final int count = mCodeCounts[node];
+			int[] codes = mCodes[node];
+			if (count > 0 && codes[count - 1] == code) {
+				return;
+			}
+			if (count == codes.length) {
+				codes = mCodes[node] = copyOf(codes, 0, count * 2);
+			}
+			codes[count] = code;
+			mCodeCounts[node] = count + 1;
+			mTotalCodes++;
+		}
+
+		IconSearch toIconSearch() {
+			int[] codeStart = new int[mSize + 1];
+			int[] codes = new int[mTotalCodes];
+			for (int node = 0; node < mSize; node++) {
+				final int start = codeStart[node];
+				System.arraycopy(mCodes[node], 0, codes, start,
+						mCodeCounts[node]);
+				codeStart[node + 1] = start + mCodeCounts[node];
+			}
+
+			return new IconSearch(copyOf(mLabels, 0, mSize), copyOf(
+					mFirstChild, 0, mSize), copyOf(mNextSibling, 0, mSize),
+					codeStart, codes);
+		}
+	}
+}
@@ -0,0 +1,274 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * Table of all logo types known to LogoView.
+ * 
+ * Each logo type code (the <i>logo_type</i> enum in <i>res/attrs.xml</i>) has
+ * a name and the Unicode of its FontAwesome glyph. Many names are aliases of
+ * the same glyph (e.g. <i>life-bouy</i>, <i>life-ring</i>, <i>life-saver</i>
+ * and <i>support</i>), so every code is also mapped to a canonical glyph ID.
+ * Glyph IDs are dense (0 to getGlyphCount() - 1) and all caches of rendered
+ * or measured glyphs are keyed by them, so aliases share everything.
+ * 
+ * The table is filled by categories of logo types (ControlIcons, BrandIcons,
+ * DirectionalIcons, ...), all of which are installed by default.
+ * 
+ * If you want to add another logo, go to <i>res/attrs.xml</i> create a new
+ * <i>enum</i> for it with the next integer value, raise MAX_CODE and append
+ * its code, name and Unicode to the tables of a category.
+ * 
+ * This class does not depend on Android, so the same table can be used by
+ * plain Java code.
+ * 
+ * @author Marek Matejka
+ * @see {@link http://fortawesome.github.io/Font-Awesome/cheatsheet/} for
+ *      Unicode values of FontAwesome characters.
+ */
+public final class IconTable {
+
+	/**
+	 * Glyph ID of unknown logo types.
+	 */
+	public static final int NO_GLYPH = -1;
+
+	/**
+	 * Largest logo type code, the last <i>enum</i> value of <i>logo_type</i>
+	 * in <i>res/attrs.xml</i>.
+	 */
+	private static final int MAX_CODE = 503;
+
+	// indexed by the logo type code, index 0 is not used; null and 0 for
+	// codes of categories that are not installed
+	private static final String[] NAMES = new String[MAX_CODE + 1];
+	private static final char[] CODEPOINTS = new char[MAX_CODE + 1];
+
+	// logo type code -> glyph ID
+	private static final int[] GLYPH_IDS = new int[MAX_CODE + 1];
+	// glyph ID -> Unicode of the glyph, grown by install()
+	private static char[] GLYPHS = new char[0];
+	// glyph ID -> text of the glyph, created on first use
+	private static String[] TEXTS = new String[0];
+	private static int sCodeCount;
+
+	static {
+		for (int code = 0; code <= MAX_CODE; code++) {
+			GLYPH_IDS[code] = NO_GLYPH;
+		}
+		installDefault();
+	}
+
+	/**
+	 * Installs all categories. An app that only uses some categories can
+	 * let the shrinker remove this call and the unused categories, and
+	 * install the categories it uses itself, see <i>proguard-project.txt</i>.
+	 */
+	static void installDefault() {
+		AllIcons.install();
+	}
+
+	/**
+	 * Adds logo types to the table, skipping the ones already in it. Called
+	 * by the install() methods of the categories, which must run before the
+	 * table is used on other threads (e.g. in Application.onCreate()).
+	 * 
+	 * @param codes
+	 *            Logo type codes.
+	 * @param names
+	 *            FontAwesome names, same order.
+	 * @param codepoints
+	 *            Unicode of the glyphs, same order.
+	 */
+	static synchronized void install(int[] codes, String[] names,
+			char[] codepoints) {
+		if (codepoints.length == 0) {
+			return;
+		}
+		char min = Character.MAX_VALUE;
+		char max = 0;
+		for (char glyph : GLYPHS) {
+			min = (char) Math.min(min, glyph);
+			max = (char) Math.max(max, glyph);
+		}
+		for (char codepoint : codepoints) {
+			min = (char) Math.min(min, codepoint);
+			max = (char) Math.max(max, codepoint);
+		}
+
+		// the first code using a glyph gives it its ID
+		int[] idByCodepoint = new int[max - min + 1];
+		char[] glyphs = new char[GLYPHS.length + codepoints.length];
+		System.arraycopy(GLYPHS, 0, glyphs, 0, GLYPHS.length);
+		int count = GLYPHS.length;
+		for (int id = 0; id < count; id++) {
+			// stored + 1, 0 = unassigned
+			idByCodepoint[glyphs[id] - min] = id + 1;
+		}
+		for (int i = 0; i < codes.length; i++) {
+			final int code = codes[i];
+			if (CODEPOINTS[code] != 0) {
+				continue;
+			}
+			int slot = codepoints[i] - min;
+			if (idByCodepoint[slot] == 0) {
+				glyphs[count] = codepoints[i];
+				idByCodepoint[slot] = ++count;
+			}
+			GLYPH_IDS[code] = idByCodepoint[slot] - 1;
+			NAMES[code] = names[i];
+			CODEPOINTS[code] = codepoints[i];
+			sCodeCount++;
+		}
+
+		GLYPHS = new char[count];
+		System.arraycopy(glyphs, 0, GLYPHS, 0, count);
+		String[] texts = new String[count];
+		System.arraycopy(TEXTS, 0, texts, 0, TEXTS.length);
+		TEXTS = texts;
+	}
+
+	private IconTable() {
+	}
+
+	/**
+	 * @return Largest logo type code in the table, codes start at 1.
+	 */
+	public static int getMaxCode() {
+		return MAX_CODE;
+	}
+
+	/**
+	 * @param code
+	 *            Logo type code.
+	 * @return true if the code is in the table and its category is
+	 *         installed.
+	 */
+	public static boolean isValid(int code) {
+		return code > 0 && code <= MAX_CODE && CODEPOINTS[code] != 0;
+	}
+
+	/**
+	 * @param code
+	 *            Logo type code.
+	 * @return FontAwesome name of the logo (e.g. <i>arrow-right</i>), null if
+	 *         the code is unknown.
+	 */
+	public static String getName(int code) {
+		return isValid(code) ? NAMES[code] : null;
+	}
+
+	/**
+	 * Returns the code of a logo type by its name.
+	 * 
+	 * @param name
+	 *            FontAwesome name (<i>arrow-right</i>) or enum name from
+	 *            <i>res/attrs.xml</i> (<i>arrow_right</i>).
+	 * @return Logo type code, -1 if there is no such name.
+	 */
+	public static int findCode(String name) {
+		String key = name.replace('_', '-');
+		for (int code = 1; code <= MAX_CODE; code++) {
+			if (key.equals(NAMES[code])) {
+				return code;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param code
+	 *            Logo type code.
+	 * @return Unicode of the logo, 0 if the code is unknown.
+	 */
+	public static char getCodepoint(int code) {
+		return isValid(code) ? CODEPOINTS[code] : 0;
+	}
+
+	/**
+	 * Returns the canonical glyph ID of a logo type. All aliases of a glyph
+	 * have the same ID.
+	 * 
+	 * @param code
+	 *            Logo type code.
+	 * @return Glyph ID, or NO_GLYPH if the code is unknown.
+	 */
+	public static int getGlyphId(int code) {
+		return isValid(code) ? GLYPH_IDS[code] : NO_GLYPH;
+	}
+
+	/**
+	 * @param glyphId
+	 *            Glyph ID as returned by getGlyphId().
+	 * @return Unicode of the glyph.
+	 */
+	public static char getGlyph(int glyphId) {
+		return GLYPHS[glyphId];
+	}
+
+	/**
+	 * Returns the text showing a glyph. The same instance is returned for
+	 * every alias of the glyph.
+	 * 
+	 * @param glyphId
+	 *            Glyph ID as returned by getGlyphId().
+	 * @return Text of the glyph, null for NO_GLYPH.
+	 */
+	public static String getText(int glyphId) {
+		if (glyphId == NO_GLYPH) {
+			return null;
+		}
+		String text = TEXTS[glyphId];
+		if (text == null) {
+			// racing threads may create equal strings, which is harmless
+			text = String.valueOf(GLYPHS[glyphId]);
+			TEXTS[glyphId] = text;
+		}
+		return text;
+	}
+
+	/**
+	 * @param glyphId
+	 *            Glyph ID as returned by getGlyphId().
+	 * @return true if getText() already created the text of the glyph.
+	 */
+	static boolean hasText(int glyphId) {
+		return TEXTS[glyphId] != null;
+	}
+
+	/**
+	 * @return Number of distinct glyphs in the table.
+	 */
+	public static int getGlyphCount() {
+		return GLYPHS.length;
+	}
+
+	/**
+	 * Returns how many logo types there are per distinct glyph, i.e. how much
+	 * smaller glyph caches are for keying on glyph IDs instead of codes.
+	 * 
+	 * @return Number of codes divided by number of glyphs (1 = no aliases,
+	 *         also if no category is installed).
+	 */
+	public static float getDedupRatio() {
+		final char[] glyphs = GLYPHS;
+		if (glyphs.length == 0) {
+			return 1f;
+		}
+		return sCodeCount / (float) glyphs.length;
+	}
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import android.content.Context;
+import android.support.v4.util.LruCache;
+import android.text.SpannableString;
+import android.text.Spanned;
+import android.text.SpannedString;
+
+/**
+ * Text with inline icons, e.g. <i>"Tap {icon:shopping-cart} to checkout
+ * {icon:arrow-right}"</i>, for any TextView.
+ * 
+ * A template is parsed once by compile(): each <i>{icon:name}</i> token is
+ * resolved through IconTable and replaced by the glyph of the logo type, and
+ * the offsets of the glyphs are kept. Compiled templates are cached by their
+ * source string, and each builds its styled text only once per IconTheme, so
+ * binding the same template again neither parses nor allocates:
+ * 
+ * <pre>
+ * textView.setText(IconTemplate.compile(getString(R.string.checkout))
+ * 		.getText(context));
+ * </pre>
+ * 
+ * @author Marek Matejka
+ */
+public final class IconTemplate {
+
+	private static final String TOKEN = "{icon:";
+	private static final int MAX_TEMPLATES = 64;
+
+	private static final LruCache<String, IconTemplate> sTemplates = new LruCache<String, IconTemplate>(
+			MAX_TEMPLATES);
+
+	// template with the tokens replaced by their glyphs
+	private final String mPlainText;
+	// offset and logo type code of each icon
+	private final int[] mStarts;
+	private final int[] mCodes;
+	// built on first use and again when the theme changes, immutable
+	private Spanned mText;
+	private IconPack mTextTheme;
+
+	private IconTemplate(String plainText, int[] starts, int[] codes) {
+		mPlainText = plainText;
+		mStarts = starts;
+		mCodes = codes;
+	}
+
+	/**
+	 * Returns the compiled form of a template, compiling it if it is not
+	 * cached.
+	 * 
+	 * @param template
+	 *            Text with <i>{icon:name}</i> tokens, names as in
+	 *            <i>res/attrs.xml</i> ('_' or '-').
+	 * @return The compiled template.
+	 * @throws IllegalArgumentException
+	 *             If a token is not closed or names an unknown logo type.
+	 */
+	public static IconTemplate compile(String template) {
+		IconTemplate compiled = sTemplates.get(template);
+		if (compiled == null) {
+			compiled = parse(template);
+			sTemplates.put(template, compiled);
+		}
+		return compiled;
+	}
+
+	private static IconTemplate parse(String template) {
+		StringBuilder text = new StringBuilder(template.length());
+		int count = 0;
+		int[] starts = new int[4];
+		int[] codes = new int[4];
+
+		int from = 0;
+		int token;
+		while ((token = template.indexOf(TOKEN, from)) != -1) {
+			final int nameStart = token + TOKEN.length();
+			final int end = template.indexOf('}', nameStart);
+			if (end == -1) {
+				throw new IllegalArgumentException("Unclosed icon at "
+						+ token + " in \"" + template + "\"");
+			}
+			final String name = template.substring(nameStart, end).trim();
+			final int code = IconTable.findCode(name);
+			if (code == -1) {
+				throw new IllegalArgumentException("Unknown icon \"" + name
+						+ "\" in \"" + template + "\"");
+			}
+
+			text.append(template, from, token);
+			if (count == starts.length) {
+				starts = grow(starts);
+				codes = grow(codes);
+			}
+			starts[count] = text.length();
+			codes[count] = code;
+			count++;
+			text.append(IconTable.getGlyph(IconTable.getGlyphId(code)));
+			from = end + 1;
+		}
+		text.append(template, from, template.length());
+
+		int[] trimmedStarts = new int[count];
+		int[] trimmedCodes = new int[count];
+		System.arraycopy(starts, 0, trimmedStarts, 0, count);
+		System.arraycopy(codes, 0, trimmedCodes, 0, count);
+		return new IconTemplate(text.toString(), trimmedStarts, trimmedCodes);
+	}
+
+	private static int[] grow(int[] array) {
+		int[] grown = new int[array.length * 2];
+		System.arraycopy(array, 0, grown, 0, array.length);
+		return grown;
+	}
+
+	/**
+	 * Returns the text with the icons drawn as LogoViews draw them: in the
+	 * pack of the current IconTheme if it has the icon, otherwise in
+	 * FontAwesome. The text is immutable and shared by all callers until the
+	 * theme changes. Must be called on the main thread, like IconTheme.
+	 * 
+	 * @param context
+	 *            Any context of the application.
+	 * @return Styled text for a TextView.
+	 */
+	public CharSequence getText(Context context) {
+		for (int code : mCodes) {
+			IconUsage.record(code);
+		}
+
+		final IconPack theme = IconTheme.getPack();
+		if (mText == null || mTextTheme != theme) {
+			mText = buildText(context);
+			mTextTheme = theme;
+		}
+		return mText;
+	}
+
+	private Spanned buildText(Context context) {
+		// themed glyphs replace the FontAwesome ones, one char each
+		final IconPack pack = IconTheme.getPack();
+		char[] chars = null;
+		for (int i = 0; i < mStarts.length; i++) {
+			final int themed = IconTheme.getThemedCode(mCodes[i]);
+			if (themed != -1) {
+				if (chars == null) {
+					chars = mPlainText.toCharArray();
+				}
+				chars[mStarts[i]] = pack.getGlyph(pack.getGlyphId(themed));
+			}
+		}
+
+		SpannableString spannable = new SpannableString(
+				chars == null ? mPlainText : new String(chars));
+		LabelLayoutCache.IconSpan fontAwesome = LabelLayoutCache
+				.getIconSpan(Typefaces.getFontAwesome(context));
+		for (int i = 0; i < mStarts.length; i++) {
+			LabelLayoutCache.IconSpan span = fontAwesome;
+			if (IconTheme.getThemedCode(mCodes[i]) != -1) {
+				span = LabelLayoutCache.getIconSpan(pack.getTypeface());
+			}
+			spannable.setSpan(span, mStarts[i], mStarts[i] + 1,
+					Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+		}
+		return new SpannedString(spannable);
+	}
+
+	/**
+	 * @return The text with the tokens replaced by FontAwesome glyphs,
+	 *         without spans.
+	 */
+	public String getPlainText() {
+		return mPlainText;
+	}
+
+	/**
+	 * @return Number of icons in the template.
+	 */
+	public int getIconCount() {
+		return mStarts.length;
+	}
+
+	/**
+	 * @param index
+	 *            Index of an icon, from 0 to getIconCount() - 1.
+	 * @return Offset of the icon in the text.
+	 */
+	public int getIconStart(int index) {
+		return mStarts[index];
+	}
+
+	/**
+	 * @param index
+	 *            Index of an icon, from 0 to getIconCount() - 1.
+	 * @return Logo type code of the icon.
+	 */
+	public int getIconCode(int index) {
+		return mCodes[index];
+	}
+}
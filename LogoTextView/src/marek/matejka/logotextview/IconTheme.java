@@ -0,0 +1,163 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * Global icon theme: an icon pack drawing the built-in logo types in another
+ * style, e.g. outlined instead of solid icons.
+ * 
+ * A theme maps each logo type to the icon of the same name in its pack;
+ * logo types without such an icon keep the FontAwesome glyph. Switching the
+ * theme moves every attached LogoView showing a logo type to the new
+ * typeface in one LogoBatch, so nothing is inflated again and views whose
+ * size changes share a single layout pass. Detached views (e.g. recycled list
+ * rows) switch when they are attached again. Views showing an icon of a pack
+ * set with LogoView.setLogo() are not themed.
+ * 
+ * The theme holds a reference to its pack (see IconPack.release()). The
+ * reference to a previous pack is released as soon as no attached view
+ * draws from it any more.
+ * 
+ * Must be used on the main thread.
+ * 
+ * @author Marek Matejka
+ */
+public final class IconTheme {
+
+	// LogoViews attached to a window
+	private static final HashSet<LogoView> sViews = new HashSet<LogoView>();
+
+	private static IconPack sPack;
+	// logo type code -> code in sPack, -1 for none
+	private static int[] sCodes;
+	// previous packs still drawn by some view
+	private static final ArrayList<IconPack> sRetired = new ArrayList<IconPack>();
+
+	private IconTheme() {
+	}
+
+	/**
+	 * Switches the theme of all LogoViews.
+	 * 
+	 * @param pack
+	 *            Registered pack of the new theme, null for the built-in
+	 *            FontAwesome icons.
+	 */
+	public static void apply(IconPack pack) {
+		if (pack == sPack) {
+			return;
+		}
+		if (pack != null) {
+			pack.acquire();
+			sCodes = new int[IconTable.getMaxCode() + 1];
+			for (int code = 1; code < sCodes.length; code++) {
+				sCodes[code] = IconTable.isValid(code) ? pack
+						.findCode(IconTable.getName(code)) : -1;
+			}
+		} else {
+			sCodes = null;
+		}
+		if (sPack != null) {
+			sRetired.add(sPack);
+		}
+		sPack = pack;
+
+		LogoBatch batch = new LogoBatch();
+		for (LogoView view : attachedViews()) {
+			if (view.getIconPack() == null) {
+				// resolves the logo type again, now with the new theme
+				batch.setLogoType(view, view.getLogoType());
+			}
+		}
+		batch.apply();
+
+		releaseUnusedPacks();
+	}
+
+	/**
+	 * @return Pack of the current theme, null for the built-in icons.
+	 */
+	public static IconPack getPack() {
+		return sPack;
+	}
+
+	/**
+	 * Releases the previous theme packs no attached LogoView draws from.
+	 * apply() calls it, call it again after views of the old theme were
+	 * detached, e.g. when leaving a screen that kept them.
+	 */
+	public static void releaseUnusedPacks() {
+		if (sRetired.isEmpty()) {
+			return;
+		}
+		ArrayList<IconPack> used = new ArrayList<IconPack>();
+		for (LogoView view : attachedViews()) {
+			IconPack pack = view.getResolvedPack();
+			if (pack != null && !used.contains(pack)) {
+				used.add(pack);
+			}
+		}
+		for (int i = sRetired.size() - 1; i >= 0; i--) {
+			if (!used.contains(sRetired.get(i))) {
+				sRetired.remove(i).release();
+			}
+		}
+	}
+
+	/**
+	 * Adds an attached LogoView to the views switched by apply().
+	 */
+	static void register(LogoView view) {
+		sViews.add(view);
+	}
+
+	/**
+	 * Removes a detached LogoView from the views switched by apply().
+	 */
+	static void unregister(LogoView view) {
+		sViews.remove(view);
+	}
+
+	/**
+	 * @param code
+	 *            Logo type code.
+	 * @return Pack the logo type is drawn from with the current theme, null
+	 *         for FontAwesome.
+	 */
+	static IconPack getPackFor(int code) {
+		return getThemedCode(code) != -1 ? sPack : null;
+	}
+
+	/**
+	 * @param code
+	 *            Logo type code.
+	 * @return Code of the themed icon in getPack(), -1 if the logo type is
+	 *         not themed.
+	 */
+	static int getThemedCode(int code) {
+		final int[] codes = sCodes;
+		return codes != null && IconTable.isValid(code) ? codes[code] : -1;
+	}
+
+	private static ArrayList<LogoView> attachedViews() {
+		// copied, as views may be detached while iterating
+		return new ArrayList<LogoView>(sViews);
+	}
+}
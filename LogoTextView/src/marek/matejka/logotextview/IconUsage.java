@@ -0,0 +1,183 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import android.content.Context;
+
+/**
+ * Opt-in recorder of the built-in logo types an app actually shows,
+ * including the ones set from code or server data that scanning the layouts
+ * misses.
+ * 
+ * While enabled, every logo resolved by a LogoView or a LogoDrawable sets a
+ * bit keyed by its code; when disabled, recording costs one null check. The
+ * set is written as a name table (one <i>name codepoint</i> line per icon,
+ * the format of IconPack.register()), merged with what earlier runs wrote, so
+ * a build step can subset the font and prune IconTable to the icons in it.
+ * 
+ * Bits are set without locking. Icons resolved by views on the main thread
+ * are always recorded; only drawables created concurrently on other threads
+ * may race.
+ * 
+ * @author Marek Matejka
+ */
+public final class IconUsage {
+
+	/**
+	 * File written to the files directory by write().
+	 */
+	public static final String FILE_NAME = "logo-usage.txt";
+
+	// bit per used code, null while disabled
+	static volatile long[] sUsed;
+
+	private IconUsage() {
+	}
+
+	/**
+	 * Starts recording. Codes recorded before are kept.
+	 */
+	public static synchronized void enable() {
+		if (sUsed == null) {
+			sUsed = new long[(IconTable.getMaxCode() >> 6) + 1];
+		}
+	}
+
+	/**
+	 * Stops recording and forgets the recorded codes.
+	 */
+	public static synchronized void disable() {
+		sUsed = null;
+	}
+
+	/**
+	 * Records a resolved logo type. Callers pass valid codes only.
+	 * 
+	 * @param code
+	 *            Logo type code.
+	 */
+	static void record(int code) {
+		final long[] used = sUsed;
+		if (used != null) {
+			used[code >> 6] |= 1L << code;
+		}
+	}
+
+	/**
+	 * @param code
+	 *            Logo type code.
+	 * @return true if the logo was recorded since enable().
+	 */
+	public static boolean isUsed(int code) {
+		final long[] used = sUsed;
+		return used != null && IconTable.isValid(code)
+				&& (used[code >> 6] & (1L << code)) != 0;
+	}
+
+	/**
+	 * Writes the recorded logo types, together with those already in the
+	 * file, to FILE_NAME in the files directory.
+	 * 
+	 * @param context
+	 *            Any context of the application.
+	 * @return The written file.
+	 * @throws IOException
+	 *             If the file cannot be read or written.
+	 */
+	public static File write(Context context) throws IOException {
+		File file = new File(context.getFilesDir(), FILE_NAME);
+		write(file);
+		return file;
+	}
+
+	/**
+	 * Writes the recorded logo types, together with those already in the
+	 * file, to a file.
+	 * 
+	 * @param file
+	 *            Name table file, created if it does not exist.
+	 * @throws IOException
+	 *             If the file cannot be read or written.
+	 */
+	public static void write(File file) throws IOException {
+		final long[] used = sUsed;
+		final boolean[] codes = new boolean[IconTable.getMaxCode() + 1];
+		if (used != null) {
+			for (int code = 1; code < codes.length; code++) {
+				codes[code] = (used[code >> 6] & (1L << code)) != 0;
+			}
+		}
+		readNames(file, codes);
+
+		Writer out = new OutputStreamWriter(new FileOutputStream(file),
+				"UTF-8");
+		try {
+			for (int code = 1; code < codes.length; code++) {
+				if (codes[code]) {
+					out.write(IconTable.getName(code));
+					out.write(' ');
+					out.write(Integer.toHexString(IconTable
+							.getCodepoint(code)));
+					out.write('\n');
+				}
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Marks the logo types named in an existing name table.
+	 */
+	private static void readNames(File file, boolean[] codes)
+			throws IOException {
+		BufferedReader reader;
+		try {
+			reader = new BufferedReader(new InputStreamReader(
+					new FileInputStream(file), "UTF-8"));
+		} catch (FileNotFoundException e) {
+			// first run
+			return;
+		}
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.length() == 0 || line.charAt(0) == '#') {
+					continue;
+				}
+				// names of removed logo types are dropped
+				final int code = IconTable.findCode(line.split("\\s+")[0]);
+				if (code != -1) {
+					codes[code] = true;
+				}
+			}
+		} finally {
+			reader.close();
+		}
+	}
+}
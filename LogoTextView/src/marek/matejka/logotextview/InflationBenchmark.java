@@ -0,0 +1,175 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.util.SparseArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+
+/**
+ * Measures how long inflating LogoViews takes with and without
+ * LogoInflaterFactory, and how large their saved instance state is.
+ * 
+ * The sample app runs it when started with
+ * <i>adb shell am start -n marek.matejka.logotextview/.MainActivity --ez
+ * benchmark true</i> and logs the result.
+ * 
+ * @author Marek Matejka
+ */
+public final class InflationBenchmark {
+
+	private static final int WARM_UP = 20;
+
+	private InflationBenchmark() {
+	}
+
+	/**
+	 * Inflates a layout repeatedly with a plain inflater and with one using
+	 * LogoInflaterFactory.
+	 * 
+	 * @param context
+	 *            Context to inflate in.
+	 * @param layout
+	 *            Layout resource containing LogoViews.
+	 * @param iterations
+	 *            Number of measured inflations per inflater.
+	 * @return Report of the cost per inflated view in microseconds.
+	 */
+	public static String run(Context context, int layout, int iterations) {
+		LayoutInflater base = LayoutInflater.from(context);
+		LayoutInflater plain = base.cloneInContext(context);
+		LayoutInflater fast = base.cloneInContext(context);
+		fast.setFactory(new LogoInflaterFactory(null));
+
+		final int views = countViews(plain.inflate(layout, null, false));
+		final long plainNanos = time(plain, layout, iterations);
+		final long fastNanos = time(fast, layout, iterations);
+
+		final double plainMicros = plainNanos / 1000.0 / iterations / views;
+		final double fastMicros = fastNanos / 1000.0 / iterations / views;
+		return String.format("%d views x %d: %.1f us/view plain, "
+				+ "%.1f us/view with LogoInflaterFactory (%.0f%%)", views,
+				iterations, plainMicros, fastMicros, 100 * fastMicros
+						/ plainMicros);
+	}
+
+	/**
+	 * Measures how many bytes the LogoViews of a screen add to the saved
+	 * instance state of its Activity. The screen is a list of icons with
+	 * IDs, compared to the same list of plain TextViews showing the glyphs,
+	 * which is what a LogoView saved before it managed its own state.
+	 * 
+	 * @param context
+	 *            Context to create the views in.
+	 * @param icons
+	 *            Number of icons on the screen, e.g. 500.
+	 * @return Report of the bundle sizes before (TextViews) and after
+	 *         (LogoViews as inflated, and with every logo changed).
+	 */
+	public static String savedStateSize(Context context, int icons) {
+		LinearLayout textViews = new LinearLayout(context);
+		LinearLayout logoViews = new LinearLayout(context);
+		int code = 0;
+		for (int i = 0; i < icons; i++) {
+			code = nextCode(code);
+			LogoAttributes logo = new LogoAttributes();
+			logo.code = code;
+			LogoView logoView = new LogoView(context, null, logo);
+			logoView.setId(i + 1);
+			logoViews.addView(logoView);
+
+			TextView textView = new TextView(context);
+			textView.setTypeface(Typefaces.getFontAwesome(context));
+			textView.setText(logoView.getText());
+			textView.setId(i + 1);
+			textViews.addView(textView);
+		}
+
+		final int before = bundleSize(textViews);
+		final int inflated = bundleSize(logoViews);
+		for (int i = 0; i < icons; i++) {
+			LogoView logoView = (LogoView) logoViews.getChildAt(i);
+			logoView.setLogoType(nextCode(logoView.getLogoType()));
+		}
+		final int changed = bundleSize(logoViews);
+		return String.format("%d icons: %d bytes of saved state before, "
+				+ "%d bytes after (%d bytes with every logo changed)", icons,
+				before, inflated, changed);
+	}
+
+	/**
+	 * @return The next installed logo type code after the given one,
+	 *         wrapping around.
+	 */
+	private static int nextCode(int code) {
+		final int max = IconTable.getMaxCode();
+		for (int i = 0; i < max; i++) {
+			code = code % max + 1;
+			if (IconTable.isValid(code)) {
+				break;
+			}
+		}
+		return code;
+	}
+
+	/**
+	 * @return Size of the Activity state bundle holding the view states.
+	 */
+	private static int bundleSize(View root) {
+		SparseArray<Parcelable> states = new SparseArray<Parcelable>();
+		root.saveHierarchyState(states);
+		Bundle bundle = new Bundle();
+		bundle.putSparseParcelableArray("android:viewHierarchyState", states);
+		Parcel parcel = Parcel.obtain();
+		try {
+			parcel.writeBundle(bundle);
+			return parcel.dataSize();
+		} finally {
+			parcel.recycle();
+		}
+	}
+
+	private static long time(LayoutInflater inflater, int layout,
+			int iterations) {
+		for (int i = 0; i < WARM_UP; i++) {
+			inflater.inflate(layout, null, false);
+		}
+		final long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			inflater.inflate(layout, null, false);
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static int countViews(View view) {
+		int count = 1;
+		if (view instanceof ViewGroup) {
+			ViewGroup group = (ViewGroup) view;
+			for (int i = 0; i < group.getChildCount(); i++) {
+				count += countViews(group.getChildAt(i));
+			}
+		}
+		return count;
+	}
+}
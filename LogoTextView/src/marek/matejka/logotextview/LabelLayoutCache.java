@@ -0,0 +1,264 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import java.util.HashMap;
+
+import android.content.Context;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.support.v4.util.LruCache;
+import android.text.Layout;
+import android.text.SpannableString;
+import android.text.Spanned;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+import android.text.style.MetricAffectingSpan;
+import android.util.SparseArray;
+
+/**
+ * Cache of the text layouts of LogoViews showing an icon followed by a label.
+ * 
+ * A layout is built once per (glyph ID, label, width, text size) and then
+ * reused by every LogoView showing the same icon and label, e.g. when list
+ * items are rebound. Layouts can also be built ahead of time on a background
+ * thread with prefetch(). The paints the layouts are built with are shared
+ * per text size.
+ * 
+ * @author Marek Matejka
+ */
+public final class LabelLayoutCache {
+
+	/**
+	 * Width used when the width of the view is not limited.
+	 */
+	static final int UNBOUNDED = 1 << 16;
+
+	private static final int MAX_LAYOUTS = 128;
+
+	private static final LruCache<Key, StaticLayout> sLayouts = new LruCache<Key, StaticLayout>(
+			MAX_LAYOUTS);
+
+	// text size -> paint, see getPaint()
+	private static final SparseArray<TextPaint> sPaints = new SparseArray<TextPaint>();
+
+	// typeface -> span drawing icons with it
+	private static final HashMap<Typeface, IconSpan> sIconSpans = new HashMap<Typeface, IconSpan>();
+
+	private LabelLayoutCache() {
+	}
+
+	/**
+	 * Builds the layout of an icon and label on a background thread, so a
+	 * LogoView showing them later finds it in the cache.
+	 * 
+	 * @param context
+	 *            Context of the application.
+	 * @param code
+	 *            Logo type code.
+	 * @param label
+	 *            Label shown after the icon.
+	 * @param width
+	 *            Width available for the text (without padding), in pixels.
+	 * @param textSize
+	 *            Text size of the LogoView, in pixels.
+	 */
+	public static void prefetch(Context context, int code,
+			CharSequence label, int width, float textSize) {
+		final int glyphId = IconTable.getGlyphId(code);
+		if (glyphId == IconTable.NO_GLYPH) {
+			throw new IllegalArgumentException("Unknown logo type " + code);
+		}
+		prefetch(Typefaces.getFontAwesome(context), glyphId,
+				IconTable.getText(glyphId), label, width, textSize);
+	}
+
+	/**
+	 * Builds the layout of an icon of an icon pack and a label on a
+	 * background thread, so a LogoView showing them later finds it in the
+	 * cache.
+	 * 
+	 * @param pack
+	 *            Icon pack of the icon.
+	 * @param code
+	 *            Code of the icon in the pack.
+	 * @param label
+	 *            Label shown after the icon.
+	 * @param width
+	 *            Width available for the text (without padding), in pixels.
+	 * @param textSize
+	 *            Text size of the LogoView, in pixels.
+	 */
+	public static void prefetch(IconPack pack, int code, CharSequence label,
+			int width, float textSize) {
+		final int glyphId = pack.getGlyphId(code);
+		if (glyphId == IconTable.NO_GLYPH) {
+			throw new IllegalArgumentException("Unknown icon " + code);
+		}
+		prefetch(pack.getTypeface(), glyphId, pack.getText(glyphId), label,
+				width, textSize);
+	}
+
+	private static void prefetch(final Typeface typeface, final int glyphId,
+			final String glyphText, final CharSequence label,
+			final int width, final float textSize) {
+		BackgroundExecutor.get().execute(new Runnable() {
+			@Override
+			public void run() {
+				get(typeface, glyphId, glyphText, label, width, textSize);
+			}
+		});
+	}
+
+	/**
+	 * Drops the layouts of all icons of an icon pack, and its span.
+	 * 
+	 * @param packId
+	 *            ID of a released pack.
+	 * @param typeface
+	 *            Typeface of the pack.
+	 */
+	static void evictPack(int packId, Typeface typeface) {
+		synchronized (sIconSpans) {
+			sIconSpans.remove(typeface);
+		}
+		for (Key key : sLayouts.snapshot().keySet()) {
+			if (IconPack.getPackId(key.glyphId) == packId) {
+				sLayouts.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Returns the layout of an icon and label, building it if it is not
+	 * cached.
+	 * 
+	 * @param typeface
+	 *            Typeface of the icon.
+	 * @param glyphId
+	 *            Canonical glyph ID, see IconTable and IconPack.
+	 * @param glyphText
+	 *            Text of the glyph.
+	 * @param width
+	 *            Available width, or UNBOUNDED.
+	 */
+	static StaticLayout get(Typeface typeface, int glyphId, String glyphText,
+			CharSequence label, int width, float textSize) {
+		Key key = new Key(glyphId, label.toString(), width, textSize);
+		StaticLayout layout = sLayouts.get(key);
+		if (layout == null) {
+			SpannableString text = new SpannableString(glyphText + " "
+					+ label);
+			text.setSpan(getIconSpan(typeface), 0, 1,
+					Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+			layout = new StaticLayout(text, getPaint(textSize), width,
+					Layout.Alignment.ALIGN_NORMAL, 1f, 0f, false);
+			sLayouts.put(key, layout);
+			if (LogoProfiler.sEnabled) {
+				LogoProfiler.count(LogoProfiler.TEXT_ALLOCS,
+						LogoProfiler.NO_ICON);
+			}
+		}
+		return layout;
+	}
+
+	/**
+	 * Returns the paint shared by all layouts of a text size. Layouts are
+	 * only measured with it off the main thread, its color is set on the main
+	 * thread right before a layout is drawn.
+	 */
+	private static TextPaint getPaint(float textSize) {
+		final int key = Float.floatToIntBits(textSize);
+		synchronized (sPaints) {
+			TextPaint paint = sPaints.get(key);
+			if (paint == null) {
+				paint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+				paint.setTextSize(textSize);
+				sPaints.put(key, paint);
+			}
+			return paint;
+		}
+	}
+
+	/**
+	 * Returns the span drawing icons in a typeface, shared by all label
+	 * layouts and IconTemplates.
+	 */
+	static IconSpan getIconSpan(Typeface typeface) {
+		synchronized (sIconSpans) {
+			IconSpan span = sIconSpans.get(typeface);
+			if (span == null) {
+				span = new IconSpan(typeface);
+				sIconSpans.put(typeface, span);
+			}
+			return span;
+		}
+	}
+
+	/**
+	 * Span drawing the icon of a label layout with the icon typeface.
+	 */
+	static final class IconSpan extends MetricAffectingSpan {
+		private final Typeface mTypeface;
+
+		IconSpan(Typeface typeface) {
+			mTypeface = typeface;
+		}
+
+		@Override
+		public void updateDrawState(TextPaint paint) {
+			paint.setTypeface(mTypeface);
+		}
+
+		@Override
+		public void updateMeasureState(TextPaint paint) {
+			paint.setTypeface(mTypeface);
+		}
+	}
+
+	private static final class Key {
+		final int glyphId;
+		final String label;
+		final int width;
+		final float textSize;
+
+		Key(int glyphId, String label, int width, float textSize) {
+			this.glyphId = glyphId;
+			this.label = label;
+			this.width = width;
+			this.textSize = textSize;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return glyphId == other.glyphId && width == other.width
+					&& textSize == other.textSize && label.equals(other.label);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = glyphId;
+			result = 31 * result + label.hashCode();
+			result = 31 * result + width;
+			return 31 * result + Float.floatToIntBits(textSize);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.util.AttributeSet;
+
+/**
+ * Values of the LogoView attributes declared in <i>res/attrs.xml</i>.
+ * 
+ * @author Marek Matejka
+ */
+final class LogoAttributes {
+
+	int code = -1; // -1 = default value
+	boolean tightBounds;
+	boolean mipMapped;
+	String label;
+	boolean spin;
+	int spinDuration = LogoView.DEFAULT_SPIN_DURATION;
+	boolean lazy;
+
+	/**
+	 * Reads the attributes of a view through the theme.
+	 * 
+	 * @param context
+	 *            Context of the view.
+	 * @param attrs
+	 *            AttributeSet defined through XML.
+	 * @return New attributes.
+	 */
+	static LogoAttributes obtain(Context context, AttributeSet attrs) {
+		TypedArray a = context.obtainStyledAttributes(attrs,
+				R.styleable.LogoView);
+		LogoAttributes logo = new LogoAttributes();
+		logo.read(a);
+		a.recycle();
+		return logo;
+	}
+
+	/**
+	 * Reads the attributes set by a style.
+	 * 
+	 * @param context
+	 *            Context of the view.
+	 * @param style
+	 *            Resource ID of the style.
+	 * @return New attributes.
+	 */
+	static LogoAttributes obtainStyle(Context context, int style) {
+		TypedArray a = context.obtainStyledAttributes(style,
+				R.styleable.LogoView);
+		LogoAttributes logo = new LogoAttributes();
+		logo.read(a);
+		a.recycle();
+		return logo;
+	}
+
+	private void read(TypedArray a) {
+		// get the logo type code
+		code = a.getInteger(R.styleable.LogoView_logo_type, code);
+		tightBounds = a.getBoolean(R.styleable.LogoView_tight_bounds,
+				tightBounds);
+		mipMapped = a.getBoolean(R.styleable.LogoView_mip_mapped, mipMapped);
+		label = a.getString(R.styleable.LogoView_logo_label);
+		spin = a.getBoolean(R.styleable.LogoView_spin, spin);
+		spinDuration = checkSpinDuration(a.getInteger(
+				R.styleable.LogoView_spin_duration, spinDuration));
+		lazy = a.getBoolean(R.styleable.LogoView_lazy, lazy);
+	}
+
+	/**
+	 * Validates a spin duration read from XML or passed to
+	 * {@link LogoView#setSpinDuration(int)}.
+	 * 
+	 * @param duration
+	 *            Duration of one turn in milliseconds.
+	 * @return The duration.
+	 * @throws IllegalArgumentException
+	 *             If the duration is not positive.
+	 */
+	static int checkSpinDuration(int duration) {
+		if (duration <= 0) {
+			throw new IllegalArgumentException("Spin duration must be positive");
+		}
+		return duration;
+	}
+
+	LogoAttributes copy() {
+		LogoAttributes copy = new LogoAttributes();
+		copy.code = code;
+		copy.tightBounds = tightBounds;
+		copy.mipMapped = mipMapped;
+		copy.lazy = lazy;
+		copy.label = label;
+		copy.spin = spin;
+		copy.spinDuration = spinDuration;
+		return copy;
+	}
+}
@@ -0,0 +1,188 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import java.util.ArrayList;
+
+import android.view.View;
+import android.view.ViewParent;
+
+/**
+ * Applies new logos and colors to many LogoViews at once, e.g. when a
+ * dashboard refreshes its state icons.
+ * 
+ * Changing LogoViews one by one makes each of them invalidate and request a
+ * layout for itself. A batch records these requests while it applies its
+ * changes, then invalidates every changed view once and, if any view changed
+ * its size, marks the changed views for layout and requests a single layout
+ * from their closest common ancestor. Views whose size is fixed only
+ * invalidate.
+ * 
+ * <pre>
+ * new LogoBatch().setLogoType(wifi, 478).setTextColor(wifi, green)
+ * 		.setLogoType(battery, 58).apply();
+ * </pre>
+ * 
+ * A batch must be applied on the main thread and can be reused after
+ * apply().
+ * 
+ * @author Marek Matejka
+ */
+public final class LogoBatch {
+
+	private static final int NO_CHANGE = Integer.MIN_VALUE;
+
+	private final ArrayList<LogoView> mViews = new ArrayList<LogoView>();
+	private int[] mCodes = new int[16];
+	private int[] mColors = new int[16];
+	private boolean[] mHasColor = new boolean[16];
+
+	/**
+	 * Sets the logo of a view when the batch is applied.
+	 * 
+	 * @param view
+	 *            Changed view.
+	 * @param code
+	 *            New logo type code.
+	 * @return This batch.
+	 */
+	public LogoBatch setLogoType(LogoView view, int code) {
+		mCodes[indexOf(view)] = code;
+		return this;
+	}
+
+	/**
+	 * Sets the text color of a view when the batch is applied.
+	 * 
+	 * @param view
+	 *            Changed view.
+	 * @param color
+	 *            New color of the logo.
+	 * @return This batch.
+	 */
+	public LogoBatch setTextColor(LogoView view, int color) {
+		final int index = indexOf(view);
+		mColors[index] = color;
+		mHasColor[index] = true;
+		return this;
+	}
+
+	private int indexOf(LogoView view) {
+		int index = mViews.indexOf(view);
+		if (index == -1) {
+			index = mViews.size();
+			if (index == mCodes.length) {
+				mCodes = grow(mCodes);
+				mColors = grow(mColors);
+				boolean[] hasColor = new boolean[index * 2];
+				System.arraycopy(mHasColor, 0, hasColor, 0, index);
+				mHasColor = hasColor;
+			}
+			mViews.add(view);
+			mCodes[index] = NO_CHANGE;
+			mHasColor[index] = false;
+		}
+		return index;
+	}
+
+	private static int[] grow(int[] array) {
+		int[] grown = new int[array.length * 2];
+		System.arraycopy(array, 0, grown, 0, array.length);
+		return grown;
+	}
+
+	/**
+	 * Applies all changes and clears the batch.
+	 */
+	public void apply() {
+		final int count = mViews.size();
+		ArrayList<LogoView> resized = null;
+
+		for (int i = 0; i < count; i++) {
+			LogoView view = mViews.get(i);
+			view.beginBatch();
+			try {
+				if (mCodes[i] != NO_CHANGE) {
+					view.setLogoType(mCodes[i]);
+				}
+				if (mHasColor[i]) {
+					view.setTextColor(mColors[i]);
+				}
+			} finally {
+				if (view.endBatch()) {
+					if (resized == null) {
+						resized = new ArrayList<LogoView>();
+					}
+					resized.add(view);
+				}
+			}
+		}
+		mViews.clear();
+
+		if (resized != null) {
+			requestLayout(resized);
+		}
+	}
+
+	/**
+	 * Marks the views and their ancestors below their closest common
+	 * ancestor for layout, then requests a layout from that ancestor.
+	 */
+	private static void requestLayout(ArrayList<LogoView> views) {
+		// ancestors of the first attached view, narrowed down to the common
+		// ancestor by the other views
+		ArrayList<ViewParent> ancestors = null;
+		ArrayList<LogoView> marked = new ArrayList<LogoView>();
+		for (LogoView view : views) {
+			ViewParent p = view.getParent();
+			if (p != null && ancestors == null) {
+				ancestors = new ArrayList<ViewParent>();
+				for (; p != null; p = p.getParent()) {
+					ancestors.add(p);
+				}
+			} else {
+				while (p != null && !ancestors.contains(p)) {
+					p = p.getParent();
+				}
+				if (p == null) {
+					// detached or in another window
+					view.requestLayout();
+					continue;
+				}
+				ancestors.subList(0, ancestors.indexOf(p)).clear();
+			}
+			marked.add(view);
+		}
+		if (ancestors == null) {
+			return;
+		}
+
+		final ViewParent common = ancestors.get(0);
+		for (LogoView view : marked) {
+			view.forceLayout();
+			for (ViewParent p = view.getParent(); p != common
+					&& p instanceof View; p = p.getParent()) {
+				View ancestor = (View) p;
+				if (ancestor.isLayoutRequested()) {
+					break; // marked for another view already
+				}
+				ancestor.forceLayout();
+			}
+		}
+		common.requestLayout();
+	}
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+
+/**
+ * Drawable showing a logo type, e.g. for an ImageView or a compound drawable.
+ * 
+ * If the icon is registered in VectorIcons it is drawn from its path and the
+ * font is never loaded, otherwise it is drawn from the FontAwesome glyph. In
+ * both cases the icon is centered in the bounds of the drawable and as large
+ * as the smaller side of the bounds.
+ * 
+ * @author Marek Matejka
+ */
+public class LogoDrawable extends Drawable {
+
+	private final Context mContext;
+	private final int mCode;
+	private final int mGlyphId;
+	private final int mSize;
+	private final Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+	private final char[] mGlyphChars = new char[1];
+	private final Rect mGlyphBounds = new Rect();
+
+	/**
+	 * @param context
+	 *            Context of the application.
+	 * @param code
+	 *            Logo type code.
+	 * @param size
+	 *            Intrinsic width and height in pixels.
+	 */
+	public LogoDrawable(Context context, int code, int size) {
+		mGlyphId = IconTable.getGlyphId(code);
+		if (mGlyphId == IconTable.NO_GLYPH) {
+			throw new IllegalArgumentException("Unknown logo type " + code);
+		}
+		IconUsage.record(code);
+		mCode = code;
+		mContext = context.getApplicationContext();
+		mSize = size;
+		mGlyphChars[0] = IconTable.getGlyph(mGlyphId);
+		mPaint.setColor(0xff000000);
+	}
+
+	/**
+	 * @param color
+	 *            Color of the icon.
+	 */
+	public void setColor(int color) {
+		mPaint.setColor(color);
+		invalidateSelf();
+	}
+
+	@Override
+	public void draw(Canvas canvas) {
+		if (!LogoProfiler.sEnabled) {
+			drawIcon(canvas);
+			return;
+		}
+		final long start = System.nanoTime();
+		drawIcon(canvas);
+		LogoProfiler.time(LogoProfiler.DRAWS,
+				LogoProfiler.iconKey(null, mCode), start);
+	}
+
+	private void drawIcon(Canvas canvas) {
+		final Rect bounds = getBounds();
+		final float size = Math.min(bounds.width(), bounds.height());
+		if (size <= 0) {
+			return;
+		}
+
+		VectorIcons.VectorIcon vector = VectorIcons.get(mGlyphId);
+		if (vector != null) {
+			final float scale = size / vector.viewportSize;
+			canvas.save();
+			canvas.translate(bounds.left + (bounds.width() - size) / 2f,
+					bounds.top + (bounds.height() - size) / 2f);
+			canvas.scale(scale, scale);
+			canvas.drawPath(vector.path, mPaint);
+			canvas.restore();
+			return;
+		}
+
+		if (mPaint.getTypeface() == null) {
+			mPaint.setTypeface(Typefaces.getFontAwesome(mContext));
+		}
+		mPaint.setTextSize(size);
+		GlyphMetrics.getBounds(mGlyphId, mGlyphChars[0], mPaint, mGlyphBounds);
+		canvas.drawText(mGlyphChars, 0, 1, bounds.exactCenterX()
+				- mGlyphBounds.exactCenterX(), bounds.exactCenterY()
+				- mGlyphBounds.exactCenterY(), mPaint);
+	}
+
+	@Override
+	public int getIntrinsicWidth() {
+		return mSize;
+	}
+
+	@Override
+	public int getIntrinsicHeight() {
+		return mSize;
+	}
+
+	@Override
+	public void setAlpha(int alpha) {
+		mPaint.setAlpha(alpha);
+		invalidateSelf();
+	}
+
+	@Override
+	public void setColorFilter(ColorFilter cf) {
+		mPaint.setColorFilter(cf);
+		invalidateSelf();
+	}
+
+	@Override
+	public int getOpacity() {
+		return PixelFormat.TRANSLUCENT;
+	}
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import android.content.Context;
+import android.util.AttributeSet;
+import android.util.SparseArray;
+import android.view.LayoutInflater;
+import android.view.View;
+
+/**
+ * LayoutInflater factory creating LogoViews directly.
+ * 
+ * Without it, LayoutInflater finds the LogoView constructor through
+ * reflection and every LogoView resolves its attributes through the theme.
+ * This factory calls the constructor directly and reads the LogoView
+ * attributes straight from the XML. Attributes set by a style are resolved
+ * once per style and shared by all views using it. Views whose LogoView
+ * attributes refer to resources or theme attributes fall back to the usual
+ * resolution.
+ * 
+ * Install it before the layout is inflated, e.g. in onCreate() before
+ * setContentView():
+ * 
+ * <pre>
+ * LogoInflaterFactory.install(getLayoutInflater());
+ * </pre>
+ * 
+ * It is a LayoutInflater.Factory rather than a Factory2, which needs API
+ * level 11; the parent view is not needed to create a LogoView.
+ * 
+ * @author Marek Matejka
+ */
+public class LogoInflaterFactory implements LayoutInflater.Factory {
+
+	private static final String LOGO_VIEW = LogoView.class.getName();
+
+	private static final LogoAttributes DEFAULTS = new LogoAttributes();
+
+	private final LayoutInflater.Factory mDelegate;
+
+	// style resource ID -> attributes set by the style
+	private final SparseArray<LogoAttributes> mStyles = new SparseArray<LogoAttributes>();
+
+	/**
+	 * Installs a new factory on an inflater.
+	 * 
+	 * @param inflater
+	 *            Inflater without a factory.
+	 */
+	public static void install(LayoutInflater inflater) {
+		inflater.setFactory(new LogoInflaterFactory(null));
+	}
+
+	/**
+	 * @param delegate
+	 *            Factory creating all other views, may be null.
+	 */
+	public LogoInflaterFactory(LayoutInflater.Factory delegate) {
+		mDelegate = delegate;
+	}
+
+	@Override
+	public View onCreateView(String name, Context context, AttributeSet attrs) {
+		if (!LOGO_VIEW.equals(name)) {
+			return mDelegate == null ? null : mDelegate.onCreateView(name,
+					context, attrs);
+		}
+
+		LogoAttributes logo = resolve(context, attrs);
+		if (logo == null) {
+			logo = LogoAttributes.obtain(context, attrs);
+		}
+		return new LogoView(context, attrs, logo);
+	}
+
+	/**
+	 * Reads the LogoView attributes from the XML.
+	 * 
+	 * @return Resolved attributes, null if they need the theme.
+	 */
+	private LogoAttributes resolve(Context context, AttributeSet attrs) {
+		final int style = attrs.getStyleAttribute();
+		LogoAttributes defaults = DEFAULTS;
+		if (style != 0) {
+			defaults = mStyles.get(style);
+			if (defaults == null) {
+				defaults = LogoAttributes.obtainStyle(context, style);
+				mStyles.put(style, defaults);
+			}
+		}
+
+		// the shared defaults are copied only if the XML changes them
+		LogoAttributes logo = null;
+		final int count = attrs.getAttributeCount();
+		for (int i = 0; i < count; i++) {
+			final int attr = attrs.getAttributeNameResource(i);
+			if (attr != R.attr.logo_type && attr != R.attr.tight_bounds
+					&& attr != R.attr.mip_mapped && attr != R.attr.logo_label
+					&& attr != R.attr.spin && attr != R.attr.spin_duration
+					&& attr != R.attr.lazy) {
+				continue;
+			}
+
+			final String value = attrs.getAttributeValue(i);
+			if (value != null
+					&& (value.startsWith("@") || value.startsWith("?"))) {
+				return null;
+			}
+			if (logo == null) {
+				logo = defaults.copy();
+			}
+
+			if (attr == R.attr.logo_type) {
+				logo.code = attrs.getAttributeIntValue(i, logo.code);
+			} else if (attr == R.attr.tight_bounds) {
+				logo.tightBounds = attrs.getAttributeBooleanValue(i,
+						logo.tightBounds);
+			} else if (attr == R.attr.mip_mapped) {
+				logo.mipMapped = attrs.getAttributeBooleanValue(i,
+						logo.mipMapped);
+			} else if (attr == R.attr.logo_label) {
+				logo.label = value;
+			} else if (attr == R.attr.spin) {
+				logo.spin = attrs.getAttributeBooleanValue(i, logo.spin);
+			} else if (attr == R.attr.lazy) {
+				logo.lazy = attrs.getAttributeBooleanValue(i, logo.lazy);
+			} else {
+				logo.spinDuration = LogoAttributes.checkSpinDuration(attrs
+						.getAttributeIntValue(i, logo.spinDuration));
+			}
+		}
+		return logo == null ? defaults : logo;
+	}
+}
@@ -0,0 +1,368 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import android.content.Context;
+
+/**
+ * Developer profiler of LogoViews, cheap enough to stay on in internal
+ * builds.
+ * 
+ * While enabled, it counts per screen and per icon: font loads, setLogo()
+ * calls, text objects created (glyph texts of the built-in table and of icon
+ * packs, and label layouts, which are counted without an icon) and the number
+ * and duration of measure, layout and draw passes of LogoViews and
+ * LogoDrawables. All threads count into one fixed-size table of
+ * atomic counters, so recording never locks and the memory used does not
+ * depend on the number of threads.
+ * 
+ * Typical use: enable() in Application.onCreate(), setScreen() in each
+ * Activity.onResume(), writeCsv() or writeJson() when leaving the app.
+ * Reports are written to Context.getFilesDir().
+ * 
+ * @author Marek Matejka
+ */
+public final class LogoProfiler {
+
+	// counted events, one column of the report each
+	static final int FONT_LOADS = 0;
+	static final int SET_LOGO = 1;
+	static final int TEXT_ALLOCS = 2;
+	static final int MEASURES = 3;
+	static final int MEASURE_NANOS = 4;
+	static final int LAYOUTS = 5;
+	static final int LAYOUT_NANOS = 6;
+	static final int DRAWS = 7;
+	static final int DRAW_NANOS = 8;
+	private static final int COLUMNS = 9;
+
+	private static final String[] COLUMN_NAMES = { "font_loads", "set_logo",
+			"text_allocs", "measures", "measure_ns", "layouts", "layout_ns",
+			"draws", "draw_ns" };
+
+	/**
+	 * Icon key of events not tied to an icon, e.g. font loads.
+	 */
+	static final int NO_ICON = -1;
+
+	// number of keys, must be a power of two; further keys are counted in
+	// the overflow row, so the overhead stays bounded
+	private static final int CAPACITY = 1024;
+	private static final long OVERFLOW = -1L;
+
+	/**
+	 * Checked before every recording, so a disabled profiler costs one
+	 * volatile read.
+	 */
+	static volatile boolean sEnabled;
+
+	private static volatile int sScreen;
+	// screen ID - 1 -> name, guarded by itself
+	private static final ArrayList<String> sScreens = new ArrayList<String>();
+
+	private static final Counters sCounters = new Counters();
+
+	private LogoProfiler() {
+	}
+
+	/**
+	 * Starts counting.
+	 */
+	public static void enable() {
+		sEnabled = true;
+	}
+
+	/**
+	 * Stops counting, the counts so far are kept.
+	 */
+	public static void disable() {
+		sEnabled = false;
+	}
+
+	/**
+	 * @return true while counting.
+	 */
+	public static boolean isEnabled() {
+		return sEnabled;
+	}
+
+	/**
+	 * Sets the screen following events are counted for.
+	 * 
+	 * @param name
+	 *            Name of the screen, e.g. the Activity class name.
+	 */
+	public static void setScreen(String name) {
+		synchronized (sScreens) {
+			int index = sScreens.indexOf(name);
+			if (index < 0) {
+				sScreens.add(name);
+				index = sScreens.size() - 1;
+			}
+			sScreen = index + 1;
+		}
+	}
+
+	/**
+	 * Clears all counts.
+	 */
+	public static void reset() {
+		sCounters.clear();
+	}
+
+	/**
+	 * Returns the key events of an icon are counted under.
+	 * 
+	 * @param pack
+	 *            Icon pack of the icon, null for the built-in table.
+	 * @param code
+	 *            Code of the icon.
+	 * @return Icon key.
+	 */
+	static int iconKey(IconPack pack, int code) {
+		return pack == null ? code : (pack.getId() << IconPack.PACK_SHIFT)
+				| (code & 0xffff);
+	}
+
+	/**
+	 * Counts an event. Callers check sEnabled first.
+	 * 
+	 * @param column
+	 *            Counted event.
+	 * @param icon
+	 *            Icon key, see iconKey(), or NO_ICON.
+	 */
+	static void count(int column, int icon) {
+		sCounters.add(sScreen, icon, column, 1);
+	}
+
+	/**
+	 * Counts a timed pass (MEASURES, LAYOUTS or DRAWS) and its duration.
+	 * Callers check sEnabled first.
+	 * 
+	 * @param column
+	 *            Counted pass.
+	 * @param icon
+	 *            Icon key, see iconKey().
+	 * @param startNanos
+	 *            System.nanoTime() when the pass started.
+	 */
+	static void time(int column, int icon, long startNanos) {
+		final long nanos = System.nanoTime() - startNanos;
+		final int screen = sScreen;
+		sCounters.add(screen, icon, column, 1);
+		sCounters.add(screen, icon, column + 1, nanos);
+	}
+
+	/**
+	 * Writes the counts as CSV with one row per screen and icon.
+	 * 
+	 * @param context
+	 *            Any context of the application.
+	 * @return The written file in the files directory.
+	 * @throws IOException
+	 *             If the file cannot be written.
+	 */
+	public static File writeCsv(Context context) throws IOException {
+		final String fileName = "logo-profile.csv";
+		Writer out = open(context, fileName);
+		try {
+			out.write("screen,icon");
+			for (String name : COLUMN_NAMES) {
+				out.write(',');
+				out.write(name);
+			}
+			out.write('\n');
+			for (Map.Entry<Long, long[]> row : aggregate().entrySet()) {
+				out.write(screenName(row.getKey()));
+				out.write(',');
+				out.write(iconName(row.getKey()));
+				for (long value : row.getValue()) {
+					out.write(',');
+					out.write(Long.toString(value));
+				}
+				out.write('\n');
+			}
+		} finally {
+			out.close();
+		}
+		return context.getFileStreamPath(fileName);
+	}
+
+	/**
+	 * Writes the counts as a JSON array with one object per screen and icon.
+	 * 
+	 * @param context
+	 *            Any context of the application.
+	 * @return The written file in the files directory.
+	 * @throws IOException
+	 *             If the file cannot be written.
+	 */
+	public static File writeJson(Context context) throws IOException {
+		final String fileName = "logo-profile.json";
+		Writer out = open(context, fileName);
+		try {
+			out.write('[');
+			boolean first = true;
+			for (Map.Entry<Long, long[]> row : aggregate().entrySet()) {
+				out.write(first ? "\n{" : ",\n{");
+				first = false;
+				out.write("\"screen\":\"" + screenName(row.getKey())
+						+ "\",\"icon\":\"" + iconName(row.getKey()) + "\"");
+				final long[] values = row.getValue();
+				for (int i = 0; i < COLUMNS; i++) {
+					out.write(",\"" + COLUMN_NAMES[i] + "\":" + values[i]);
+				}
+				out.write('}');
+			}
+			out.write("\n]\n");
+		} finally {
+			out.close();
+		}
+		return context.getFileStreamPath(fileName);
+	}
+
+	private static Writer open(Context context, String fileName)
+			throws IOException {
+		return new OutputStreamWriter(context.openFileOutput(fileName,
+				Context.MODE_PRIVATE), "UTF-8");
+	}
+
+	/**
+	 * @return Counted rows, sorted by screen and icon.
+	 */
+	private static TreeMap<Long, long[]> aggregate() {
+		TreeMap<Long, long[]> rows = new TreeMap<Long, long[]>();
+		sCounters.addTo(rows);
+		return rows;
+	}
+
+	private static String screenName(long key) {
+		if (key == OVERFLOW) {
+			return "(overflow)";
+		}
+		final int screen = (int) (key >>> 32);
+		if (screen == 0) {
+			return "(none)";
+		}
+		synchronized (sScreens) {
+			// names are quoted neither in CSV nor in JSON
+			return sScreens.get(screen - 1).replaceAll("[\",\\\\]", "_");
+		}
+	}
+
+	private static String iconName(long key) {
+		final int icon = (int) key;
+		if (key == OVERFLOW || icon == NO_ICON) {
+			return "";
+		}
+		final int pack = IconPack.getPackId(icon);
+		final int code = icon & 0xffff;
+		if (pack != 0) {
+			return "pack" + pack + "#" + code;
+		}
+		return IconTable.isValid(code) ? IconTable.getName(code) : "#" + code;
+	}
+
+	/**
+	 * Counts in an open-addressing table keyed by (screen, icon). Keys are
+	 * claimed and values added atomically, so all threads share it.
+	 */
+	private static final class Counters {
+		// key 0 never occurs, as screens are stored + 1
+		private final AtomicLongArray mKeys = new AtomicLongArray(CAPACITY);
+		private final AtomicLongArray mValues = new AtomicLongArray(
+				(CAPACITY + 1) * COLUMNS);
+		private final AtomicInteger mSize = new AtomicInteger();
+
+		void add(int screen, int icon, int column, long value) {
+			final long key = ((long) (screen + 1) << 32)
+					| (icon & 0xffffffffL);
+			final int mask = CAPACITY - 1;
+			int index = hash(key) & mask;
+			while (true) {
+				final long found = mKeys.get(index);
+				if (found == key) {
+					break;
+				}
+				if (found == 0) {
+					if (mSize.get() * 2 >= CAPACITY) {
+						// the overflow row follows the table
+						index = CAPACITY;
+						break;
+					}
+					if (mKeys.compareAndSet(index, 0, key)) {
+						mSize.incrementAndGet();
+						break;
+					}
+					// another thread claimed the slot, check it again
+					continue;
+				}
+				index = (index + 1) & mask;
+			}
+			mValues.addAndGet(index * COLUMNS + column, value);
+		}
+
+		void addTo(TreeMap<Long, long[]> rows) {
+			for (int index = 0; index <= CAPACITY; index++) {
+				final long key;
+				if (index == CAPACITY) {
+					key = OVERFLOW;
+				} else if (mKeys.get(index) != 0) {
+					// back to (screen, icon)
+					key = mKeys.get(index) - (1L << 32);
+				} else {
+					continue;
+				}
+
+				long[] row = new long[COLUMNS];
+				boolean zero = true;
+				for (int i = 0; i < COLUMNS; i++) {
+					row[i] = mValues.get(index * COLUMNS + i);
+					zero &= row[i] == 0;
+				}
+				if (!zero) {
+					// rows left empty e.g. by reset() are skipped
+					rows.put(key, row);
+				}
+			}
+		}
+
+		void clear() {
+			// keys are kept, so concurrent adds only lose or keep a few
+			// events
+			for (int i = 0; i < mValues.length(); i++) {
+				mValues.set(i, 0);
+			}
+		}
+
+		private static int hash(long key) {
+			long h = key * 0x9e3779b97f4a7c15L;
+			return (int) (h ^ (h >>> 32));
+		}
+	}
+}
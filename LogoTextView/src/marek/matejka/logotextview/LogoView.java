@@ -16,13 +16,23 @@
 
 package marek.matejka.logotextview;
 
+import java.util.ArrayList;
+
 import android.content.Context;
-import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
 import android.graphics.Typeface;
-import android.text.Html;
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.support.v4.view.ViewCompat;
+import android.text.StaticLayout;
 import android.util.AttributeSet;
 import android.view.View;
 import android.view.View.OnClickListener;
+import android.view.ViewTreeObserver;
+import android.view.animation.AnimationUtils;
 import android.widget.TextView;
 
 /**
@@ -35,6 +45,78 @@ import android.widget.TextView;
  */
 public class LogoView extends TextView implements OnClickListener{
 
+	/**
+	 * Duration of one full turn in spin mode, in milliseconds.
+	 */
+	static final int DEFAULT_SPIN_DURATION = 2000;
+
+	private boolean mSpinning;
+	private int mSpinDuration = DEFAULT_SPIN_DURATION;
+
+	// lazy mode: the logo is only resolved once the view is visible
+	private boolean mLazy;
+	private boolean mResolved;
+	// set while a lazy view whose placeholder already has the size of the
+	// glyph is resolved, its layout is kept then
+	private boolean mKeepLayout;
+	// attached lazy views waiting to be shown, checked by sLazyListener of
+	// their windows; set when one of them may have become visible, and the
+	// next view checked between such events. Only used on the main thread.
+	private static final ArrayList<LogoView> sPendingViews = new ArrayList<LogoView>();
+	private static boolean sPendingMoved;
+	private static int sPendingNext;
+	// views checked per frame when none was moved or shown, which catches
+	// movement by translation (transitions, item animations)
+	private static final int PENDING_CHECKS_PER_FRAME = 16;
+	private static final LazyListener sLazyListener = new LazyListener();
+	private static final Rect sVisibleRect = new Rect();
+
+	// mask of the glyph rotated while spinning, from GlyphCache, and the
+	// glyph and size it was taken for
+	private GlyphCache.GlyphMask mSpinMask;
+	private int mSpinMaskGlyphId = IconTable.NO_GLYPH;
+	private int mSpinMaskSize;
+
+	// mip level drawn in mip-mapped mode, and the glyph and level size it was
+	// taken for
+	private boolean mMipMapped;
+	private float mGlyphScale = 1f;
+	private GlyphCache.GlyphMask mMipMask;
+	private int mMipMaskGlyphId = IconTable.NO_GLYPH;
+	private int mMipMaskSize;
+	private final RectF mMipRect = new RectF();
+
+	// paint drawing masks, tinted with mMaskColor
+	private final Paint mMaskPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+	private int mMaskColor;
+
+	// icon pack (null for the built-in table), code and canonical glyph of
+	// the logo, see IconTable and IconPack
+	private IconPack mPack;
+	private int mCode = -1;
+	// code set by the attributes, restored without saving any state
+	private int mInflatedCode;
+	// pack actually drawn from, see getResolvedPack()
+	private IconPack mResolvedPack;
+	private int mGlyphId = IconTable.NO_GLYPH;
+	private final char[] mGlyphChars = new char[1];
+
+	private boolean mTightBounds;
+	private final Rect mGlyphBounds = new Rect();
+
+	// label shown after the icon and its layout from LabelLayoutCache,
+	// mLabelWidth and mLabelTextSize are the values it was built for
+	private CharSequence mLabel;
+	private StaticLayout mLabelLayout;
+	private int mLabelWidth;
+	private float mLabelTextSize;
+
+	// set while a LogoBatch applies changes, layout requests and
+	// invalidations are only recorded then, see LogoBatch
+	private boolean mInBatch;
+	private boolean mBatchLayoutRequested;
+	private boolean mBatchInvalidated;
+
 	/**
 	 * General constructor for the LogoTextView view.
 	 * 
@@ -44,1053 +126,887 @@ public class LogoView extends TextView implements OnClickListener{
 	 *            AttributeSet defined through XML.
 	 */
 	public LogoView(Context context, AttributeSet attrs) {
-		super(context, attrs);
+		this(context, attrs, LogoAttributes.obtain(context, attrs));
+	}
 
-		// get the logo type code
-		TypedArray a = context.obtainStyledAttributes(attrs,
-				R.styleable.LogoView);
-		int code = a.getInteger(R.styleable.LogoView_logo_type, -1); // -1 =
-																			// default
-																			// value
-		a.recycle();
+	/**
+	 * Constructor used by LogoInflaterFactory, which resolves the LogoView
+	 * attributes itself.
+	 * 
+	 * @param context
+	 *            Context of the application.
+	 * @param attrs
+	 *            AttributeSet defined through XML.
+	 * @param logo
+	 *            Resolved LogoView attributes, only read.
+	 */
+	LogoView(Context context, AttributeSet attrs, LogoAttributes logo) {
+		super(context, attrs);
 
-		// sets the logo
-		this.setText(Html.fromHtml(getLogo(code)));
+		mTightBounds = logo.tightBounds;
+		mMipMapped = logo.mipMapped;
+		mLabel = logo.label;
+		mSpinning = logo.spin;
+		mSpinDuration = logo.spinDuration;
+		mLazy = logo.lazy;
 
-		// set the font to be FontAwesome
-		this.setTypeface(Typeface.createFromAsset(context.getAssets(),
-				"fonts/font_awesome.otf"));
+		// sets the logo and its font (FontAwesome unless themed), or only
+		// stores the code in lazy mode
+		mInflatedCode = logo.code;
+		setLogoType(logo.code);
 
 		this.setClickable(true);
 		this.setFocusable(true);
+
+		// the text is rebuilt from the logo, see onSaveInstanceState()
+		this.setFreezesText(false);
 	}
 
 	/**
-	 * Returns Unicode of the logo type.
+	 * Sets the logo shown by the view. To change many LogoViews at once, use
+	 * a LogoBatch.
 	 * 
-	 * If you want to add another logo, go to <i>res/attrs.xml</i> create a new
-	 * <i>enum</i> for it with a unique integer value, and add another
-	 * <i>case</i> statement to this code with Unicode value as the return
-	 * string.
+	 * @param code
+	 *            Logo type code, see <i>logo_type</i> in <i>res/attrs.xml</i>.
+	 */
+	public void setLogoType(int code) {
+		setLogo(null, code);
+	}
+
+	/**
+	 * Sets the logo shown by the view to an icon of an icon pack. The view
+	 * keeps drawing the icon after the pack is released, until it is given
+	 * another logo.
 	 * 
+	 * @param pack
+	 *            Icon pack, or null for the built-in logo types.
 	 * @param code
-	 *            Logo type code.
-	 * @return Unicode for the logo.
-	 * @see {@link http://fortawesome.github.io/Font-Awesome/cheatsheet/} for
-	 *      Unicode values of FontAwesome characters.
+	 *            Code of the icon in the pack.
+	 */
+	public void setLogo(IconPack pack, int code) {
+		if (LogoProfiler.sEnabled) {
+			LogoProfiler.count(LogoProfiler.SET_LOGO,
+					LogoProfiler.iconKey(pack, code));
+		}
+		mPack = pack;
+		mCode = code;
+		if (!mLazy || mResolved) {
+			resolveLogo();
+		}
+	}
+
+	/**
+	 * Looks up the glyph and text of mPack and mCode and sets the typeface.
+	 */
+	private void resolveLogo() {
+		if (mPack == null && IconTable.isValid(mCode)) {
+			IconUsage.record(mCode);
+		}
+		final Typeface typeface = resolveGlyph();
+
+		String text = null;
+		if (mGlyphId != IconTable.NO_GLYPH) {
+			if (mResolvedPack == null) {
+				if (LogoProfiler.sEnabled && !IconTable.hasText(mGlyphId)) {
+					// IconTable is plain Java, its allocations are counted here
+					LogoProfiler.count(LogoProfiler.TEXT_ALLOCS,
+							LogoProfiler.iconKey(null, mCode));
+				}
+				text = IconTable.getText(mGlyphId);
+			} else {
+				text = mResolvedPack.getText(mGlyphId);
+			}
+		}
+		this.setTypeface(typeface);
+		mLabelLayout = null;
+		this.setText(text);
+	}
+
+	/**
+	 * Looks up the pack (through the IconTheme), glyph ID and glyph of mPack
+	 * and mCode, without setting the text.
+	 * 
+	 * @return Typeface of the glyph.
 	 */
-	private String getLogo(int code) {
-		switch (code) {
-		case 1:
-			return "&#xf042;"; // adjust
-		case 2:
-			return "&#xf170;"; // adn
-		case 3:
-			return "&#xf037;"; // align-center
-		case 4:
-			return "&#xf039;"; // align-justify
-		case 5:
-			return "&#xf036;"; // align-left
-		case 6:
-			return "&#xf038;"; // align-right
-		case 7:
-			return "&#xf0f9;"; // ambulance
-		case 8:
-			return "&#xf13d;"; // anchor
-		case 9:
-			return "&#xf17b;"; // android
-		case 10:
-			return "&#xf103;"; // angle-double-down
-		case 11:
-			return "&#xf100;"; // angle-double-left
-		case 12:
-			return "&#xf101;"; // angle-double-right
-		case 13:
-			return "&#xf102;"; // angle-double-up
-		case 14:
-			return "&#xf107;"; // angle-down
-		case 15:
-			return "&#xf104;"; // angle-left
-		case 16:
-			return "&#xf105;"; // angle-right
-		case 17:
-			return "&#xf106;"; // angle-up
-		case 18:
-			return "&#xf179;"; // apple
-		case 19:
-			return "&#xf187;"; // archive
-		case 20:
-			return "&#xf0ab;"; // arrow-circle-down
-		case 21:
-			return "&#xf0a8;"; // arrow-circle-left
-		case 22:
-			return "&#xf01a;"; // arrow-circle-o-down
-		case 23:
-			return "&#xf190;"; // arrow-circle-o-left
-		case 24:
-			return "&#xf18e;"; // arrow-circle-o-right
-		case 25:
-			return "&#xf01b;"; // arrow-circle-o-up
-		case 26:
-			return "&#xf0a9;"; // arrow-circle-right
-		case 27:
-			return "&#xf0aa;"; // arrow-circle-up
-		case 28:
-			return "&#xf063;"; // arrow-down
-		case 29:
-			return "&#xf060;"; // arrow-left
-		case 30:
-			return "&#xf061;"; // arrow-right
-		case 31:
-			return "&#xf062;"; // arrow-up
-		case 32:
-			return "&#xf047;"; // arrows
-		case 33:
-			return "&#xf0b2;"; // arrows-alt
-		case 34:
-			return "&#xf07e;"; // arrows-h
-		case 35:
-			return "&#xf07d;"; // arrows-v
-		case 36:
-			return "&#xf069;"; // asterisk
-		case 37:
-			return "&#xf1b9;"; // automobile
-		case 38:
-			return "&#xf04a;"; // backward
-		case 39:
-			return "&#xf05e;"; // ban
-		case 40:
-			return "&#xf19c;"; // bank
-		case 41:
-			return "&#xf080;"; // bar-chart-o
-		case 42:
-			return "&#xf02a;"; // barcode
-		case 43:
-			return "&#xf0c9;"; // bars
-		case 44:
-			return "&#xf0fc;"; // beer
-		case 45:
-			return "&#xf1b4;"; // behance
-		case 46:
-			return "&#xf1b5;"; // behance-square
-		case 47:
-			return "&#xf0f3;"; // bell
-		case 48:
-			return "&#xf0a2;"; // bell-o
-		case 49:
-			return "&#xf171;"; // bitbucket
-		case 50:
-			return "&#xf172;"; // bitbucket-square
-		case 51:
-			return "&#xf15a;"; // bitcoin
-		case 52:
-			return "&#xf032;"; // bold
-		case 53:
-			return "&#xf0e7;"; // bolt
-		case 54:
-			return "&#xf1e2;"; // bomb
-		case 55:
-			return "&#xf02d;"; // book
-		case 56:
-			return "&#xf02e;"; // bookmark
-		case 57:
-			return "&#xf097;"; // bookmark-o
-		case 58:
-			return "&#xf0b1;"; // briefcase
-		case 59:
-			return "&#xf15a;"; // btc
-		case 60:
-			return "&#xf188;"; // bug
-		case 61:
-			return "&#xf1ad;"; // building
-		case 62:
-			return "&#xf0f7;"; // building-o
-		case 63:
-			return "&#xf0a1;"; // bullhorn
-		case 64:
-			return "&#xf140;"; // bullseye
-		case 65:
-			return "&#xf1ba;"; // cab
-		case 66:
-			return "&#xf073;"; // calendar
-		case 67:
-			return "&#xf133;"; // calendar-o
-		case 68:
-			return "&#xf030;"; // camera
-		case 69:
-			return "&#xf083;"; // camera-retro
-		case 70:
-			return "&#xf1b9;"; // car
-		case 71:
-			return "&#xf0d7;"; // caret-down
-		case 72:
-			return "&#xf0d9;"; // caret-left
-		case 73:
-			return "&#xf0da;"; // caret-right
-		case 74:
-			return "&#xf150;"; // caret-square-o-down
-		case 75:
-			return "&#xf191;"; // caret-square-o-left
-		case 76:
-			return "&#xf152;"; // caret-square-o-right
-		case 77:
-			return "&#xf151;"; // caret-square-o-up
-		case 78:
-			return "&#xf0d8;"; // caret-up
-		case 79:
-			return "&#xf0a3;"; // certificate
-		case 80:
-			return "&#xf0c1;"; // chain
-		case 81:
-			return "&#xf127;"; // chain-broken
-		case 82:
-			return "&#xf00c;"; // check
-		case 83:
-			return "&#xf058;"; // check-circle
-		case 84:
-			return "&#xf05d;"; // check-circle-o
-		case 85:
-			return "&#xf14a;"; // check-square
-		case 86:
-			return "&#xf046;"; // check-square-o
-		case 87:
-			return "&#xf13a;"; // chevron-circle-down
-		case 88:
-			return "&#xf137;"; // chevron-circle-left
-		case 89:
-			return "&#xf138;"; // chevron-circle-right
-		case 90:
-			return "&#xf139;"; // chevron-circle-up
-		case 91:
-			return "&#xf078;"; // chevron-down
-		case 92:
-			return "&#xf053;"; // chevron-left
-		case 93:
-			return "&#xf054;"; // chevron-right
-		case 94:
-			return "&#xf077;"; // chevron-up
-		case 95:
-			return "&#xf1ae;"; // child
-		case 96:
-			return "&#xf111;"; // circle
-		case 97:
-			return "&#xf10c;"; // circle-o
-		case 98:
-			return "&#xf1ce;"; // circle-o-notch
-		case 99:
-			return "&#xf1db;"; // circle-thin
-		case 100:
-			return "&#xf0ea;"; // clipboard
-		case 101:
-			return "&#xf017;"; // clock-o
-		case 102:
-			return "&#xf0c2;"; // cloud
-		case 103:
-			return "&#xf0ed;"; // cloud-download
-		case 104:
-			return "&#xf0ee;"; // cloud-upload
-		case 105:
-			return "&#xf157;"; // cny
-		case 106:
-			return "&#xf121;"; // code
-		case 107:
-			return "&#xf126;"; // code-fork
-		case 108:
-			return "&#xf1cb;"; // codepen
-		case 109:
-			return "&#xf0f4;"; // coffee
-		case 110:
-			return "&#xf013;"; // cog
-		case 111:
-			return "&#xf085;"; // cogs
-		case 112:
-			return "&#xf0db;"; // columns
-		case 113:
-			return "&#xf075;"; // comment
-		case 114:
-			return "&#xf0e5;"; // comment-o
-		case 115:
-			return "&#xf086;"; // comments
-		case 116:
-			return "&#xf0e6;"; // comments-o
-		case 117:
-			return "&#xf14e;"; // compass
-		case 118:
-			return "&#xf066;"; // compress
-		case 119:
-			return "&#xf0c5;"; // copy
-		case 120:
-			return "&#xf09d;"; // credit-card
-		case 121:
-			return "&#xf125;"; // crop
-		case 122:
-			return "&#xf05b;"; // crosshairs
-		case 123:
-			return "&#xf13c;"; // css3
-		case 124:
-			return "&#xf1b2;"; // cube
-		case 125:
-			return "&#xf1b3;"; // cubes
-		case 126:
-			return "&#xf0c4;"; // cut
-		case 127:
-			return "&#xf0f5;"; // cutlery
-		case 128:
-			return "&#xf0e4;"; // dashboard
-		case 129:
-			return "&#xf1c0;"; // database
-		case 130:
-			return "&#xf03b;"; // dedent
-		case 131:
-			return "&#xf1a5;"; // delicious
-		case 132:
-			return "&#xf108;"; // desktop
-		case 133:
-			return "&#xf1bd;"; // deviantart
-		case 134:
-			return "&#xf1a6;"; // digg
-		case 135:
-			return "&#xf155;"; // dollar
-		case 136:
-			return "&#xf192;"; // dot-circle-o
-		case 137:
-			return "&#xf019;"; // download
-		case 138:
-			return "&#xf17d;"; // dribbble
-		case 139:
-			return "&#xf16b;"; // dropbox
-		case 140:
-			return "&#xf1a9;"; // drupal
-		case 141:
-			return "&#xf044;"; // edit
-		case 142:
-			return "&#xf052;"; // eject
-		case 143:
-			return "&#xf141;"; // ellipsis-h
-		case 144:
-			return "&#xf142;"; // ellipsis-v
-		case 145:
-			return "&#xf1d1;"; // empire
-		case 146:
-			return "&#xf0e0;"; // envelope
-		case 147:
-			return "&#xf003;"; // envelope-o
-		case 148:
-			return "&#xf199;"; // envelope-square
-		case 149:
-			return "&#xf12d;"; // eraser
-		case 150:
-			return "&#xf153;"; // eur
-		case 151:
-			return "&#xf153;"; // euro
-		case 152:
-			return "&#xf0ec;"; // exchange
-		case 153:
-			return "&#xf12a;"; // exclamation
-		case 154:
-			return "&#xf06a;"; // exclamation-circle
-		case 155:
-			return "&#xf071;"; // exclamation-triangle
-		case 156:
-			return "&#xf065;"; // expand
-		case 157:
-			return "&#xf08e;"; // external-link
-		case 158:
-			return "&#xf14c;"; // external-link-square
-		case 159:
-			return "&#xf06e;"; // eye
-		case 160:
-			return "&#xf070;"; // eye-slash
-		case 161:
-			return "&#xf09a;"; // facebook
-		case 162:
-			return "&#xf082;"; // facebook-square
-		case 163:
-			return "&#xf049;"; // fast-backward
-		case 164:
-			return "&#xf050;"; // fast-forward
-		case 165:
-			return "&#xf1ac;"; // fax
-		case 166:
-			return "&#xf182;"; // female
-		case 167:
-			return "&#xf0fb;"; // fighter-jet
-		case 168:
-			return "&#xf15b;"; // file
-		case 169:
-			return "&#xf1c6;"; // file-archive-o
-		case 170:
-			return "&#xf1c7;"; // file-audio-o
-		case 171:
-			return "&#xf1c9;"; // file-code-o
-		case 172:
-			return "&#xf1c3;"; // file-excel-o
-		case 173:
-			return "&#xf1c5;"; // file-image-o
-		case 174:
-			return "&#xf1c8;"; // file-movie-o
-		case 175:
-			return "&#xf016;"; // file-o
-		case 176:
-			return "&#xf1c1;"; // file-pdf-o
-		case 177:
-			return "&#xf1c5;"; // file-photo-o
-		case 178:
-			return "&#xf1c5;"; // file-picture-o
-		case 179:
-			return "&#xf1c4;"; // file-powerpoint-o
-		case 180:
-			return "&#xf1c7;"; // file-sound-o
-		case 181:
-			return "&#xf15c;"; // file-text
-		case 182:
-			return "&#xf0f6;"; // file-text-o
-		case 183:
-			return "&#xf1c8;"; // file-video-o
-		case 184:
-			return "&#xf1c2;"; // file-word-o
-		case 185:
-			return "&#xf1c6;"; // file-zip-o
-		case 186:
-			return "&#xf0c5;"; // files-o
-		case 187:
-			return "&#xf008;"; // film
-		case 188:
-			return "&#xf0b0;"; // filter
-		case 189:
-			return "&#xf06d;"; // fire
-		case 190:
-			return "&#xf134;"; // fire-extinguisher
-		case 191:
-			return "&#xf024;"; // flag
-		case 192:
-			return "&#xf11e;"; // flag-checkered
-		case 193:
-			return "&#xf11d;"; // flag-o
-		case 194:
-			return "&#xf0e7;"; // flash
-		case 195:
-			return "&#xf0c3;"; // flask
-		case 196:
-			return "&#xf16e;"; // flickr
-		case 197:
-			return "&#xf0c7;"; // floppy-o
-		case 198:
-			return "&#xf07b;"; // folder
-		case 199:
-			return "&#xf114;"; // folder-o
-		case 200:
-			return "&#xf07c;"; // folder-open
-		case 201:
-			return "&#xf115;"; // folder-open-o
-		case 202:
-			return "&#xf031;"; // font
-		case 203:
-			return "&#xf04e;"; // forward
-		case 204:
-			return "&#xf180;"; // foursquare
-		case 205:
-			return "&#xf119;"; // frown-o
-		case 206:
-			return "&#xf11b;"; // gamepad
-		case 207:
-			return "&#xf0e3;"; // gavel
-		case 208:
-			return "&#xf154;"; // gbp
-		case 209:
-			return "&#xf1d1;"; // ge
-		case 210:
-			return "&#xf013;"; // gear
-		case 211:
-			return "&#xf085;"; // gears
-		case 212:
-			return "&#xf06b;"; // gift
-		case 213:
-			return "&#xf1d3;"; // git
-		case 214:
-			return "&#xf1d2;"; // git-square
-		case 215:
-			return "&#xf09b;"; // github
-		case 216:
-			return "&#xf113;"; // github-alt
-		case 217:
-			return "&#xf092;"; // github-square
-		case 218:
-			return "&#xf184;"; // gittip
-		case 219:
-			return "&#xf000;"; // glass
-		case 220:
-			return "&#xf0ac;"; // globe
-		case 221:
-			return "&#xf1a0;"; // google
-		case 222:
-			return "&#xf0d5;"; // google-plus
-		case 223:
-			return "&#xf0d4;"; // google-plus-square
-		case 224:
-			return "&#xf19d;"; // graduation-cap
-		case 225:
-			return "&#xf0c0;"; // group
-		case 226:
-			return "&#xf0fd;"; // h-square
-		case 227:
-			return "&#xf1d4;"; // hacker-news
-		case 228:
-			return "&#xf0a7;"; // hand-o-down
-		case 229:
-			return "&#xf0a5;"; // hand-o-left
-		case 230:
-			return "&#xf0a4;"; // hand-o-right
-		case 231:
-			return "&#xf0a6;"; // hand-o-up
-		case 232:
-			return "&#xf0a0;"; // hdd-o
-		case 233:
-			return "&#xf1dc;"; // header
-		case 234:
-			return "&#xf025;"; // headphones
-		case 235:
-			return "&#xf004;"; // heart
-		case 236:
-			return "&#xf08a;"; // heart-o
-		case 237:
-			return "&#xf1da;"; // history
-		case 238:
-			return "&#xf015;"; // home
-		case 239:
-			return "&#xf0f8;"; // hospital-o
-		case 240:
-			return "&#xf13b;"; // html5
-		case 241:
-			return "&#xf03e;"; // image
-		case 242:
-			return "&#xf01c;"; // inbox
-		case 243:
-			return "&#xf03c;"; // indent
-		case 244:
-			return "&#xf129;"; // info
-		case 245:
-			return "&#xf05a;"; // info-circle
-		case 246:
-			return "&#xf156;"; // inr
-		case 247:
-			return "&#xf16d;"; // instagram
-		case 248:
-			return "&#xf19c;"; // institution
-		case 249:
-			return "&#xf033;"; // italic
-		case 250:
-			return "&#xf1aa;"; // joomla
-		case 251:
-			return "&#xf157;"; // jpy
-		case 252:
-			return "&#xf1cc;"; // jsfiddle
-		case 253:
-			return "&#xf084;"; // key
-		case 254:
-			return "&#xf11c;"; // keyboard-o
-		case 255:
-			return "&#xf159;"; // krw
-		case 256:
-			return "&#xf1ab;"; // language
-		case 257:
-			return "&#xf109;"; // laptop
-		case 258:
-			return "&#xf06c;"; // leaf
-		case 259:
-			return "&#xf0e3;"; // legal
-		case 260:
-			return "&#xf094;"; // lemon-o
-		case 261:
-			return "&#xf149;"; // level-down
-		case 262:
-			return "&#xf148;"; // level-up
-		case 263:
-			return "&#xf1cd;"; // life-bouy
-		case 264:
-			return "&#xf1cd;"; // life-ring
-		case 265:
-			return "&#xf1cd;"; // life-saver
-		case 266:
-			return "&#xf0eb;"; // lightbulb-o
-		case 267:
-			return "&#xf0c1;"; // link
-		case 268:
-			return "&#xf0e1;"; // linkedin
-		case 269:
-			return "&#xf08c;"; // linkedin-square
-		case 270:
-			return "&#xf17c;"; // linux
-		case 271:
-			return "&#xf03a;"; // list
-		case 272:
-			return "&#xf022;"; // list-alt
-		case 273:
-			return "&#xf0cb;"; // list-ol
-		case 274:
-			return "&#xf0ca;"; // list-ul
-		case 275:
-			return "&#xf124;"; // location-arrow
-		case 276:
-			return "&#xf023;"; // lock
-		case 277:
-			return "&#xf175;"; // long-arrow-down
-		case 278:
-			return "&#xf177;"; // long-arrow-left
-		case 279:
-			return "&#xf178;"; // long-arrow-right
-		case 280:
-			return "&#xf176;"; // long-arrow-up
-		case 281:
-			return "&#xf0d0;"; // magic
-		case 282:
-			return "&#xf076;"; // magnet
-		case 283:
-			return "&#xf064;"; // mail-forward
-		case 284:
-			return "&#xf112;"; // mail-reply
-		case 285:
-			return "&#xf122;"; // mail-reply-all
-		case 286:
-			return "&#xf183;"; // male
-		case 287:
-			return "&#xf041;"; // map-marker
-		case 288:
-			return "&#xf136;"; // maxcdn
-		case 289:
-			return "&#xf0fa;"; // medkit
-		case 290:
-			return "&#xf11a;"; // meh-o
-		case 291:
-			return "&#xf130;"; // microphone
-		case 292:
-			return "&#xf131;"; // microphone-slash
-		case 293:
-			return "&#xf068;"; // minus
-		case 294:
-			return "&#xf056;"; // minus-circle
-		case 295:
-			return "&#xf146;"; // minus-square
-		case 296:
-			return "&#xf147;"; // minus-square-o
-		case 297:
-			return "&#xf10b;"; // mobile
-		case 298:
-			return "&#xf10b;"; // mobile-phone
-		case 299:
-			return "&#xf0d6;"; // money
-		case 300:
-			return "&#xf186;"; // moon-o
-		case 301:
-			return "&#xf19d;"; // mortar-board
-		case 302:
-			return "&#xf001;"; // music
-		case 303:
-			return "&#xf0c9;"; // navicon
-		case 304:
-			return "&#xf19b;"; // openid
-		case 305:
-			return "&#xf03b;"; // outdent
-		case 306:
-			return "&#xf18c;"; // pagelines
-		case 307:
-			return "&#xf1d8;"; // paper-plane
-		case 308:
-			return "&#xf1d9;"; // paper-plane-o
-		case 309:
-			return "&#xf0c6;"; // paperclip
-		case 310:
-			return "&#xf1dd;"; // paragraph
-		case 311:
-			return "&#xf0ea;"; // paste
-		case 312:
-			return "&#xf04c;"; // pause
-		case 313:
-			return "&#xf1b0;"; // paw
-		case 314:
-			return "&#xf040;"; // pencil
-		case 315:
-			return "&#xf14b;"; // pencil-square
-		case 316:
-			return "&#xf044;"; // pencil-square-o
-		case 317:
-			return "&#xf095;"; // phone
-		case 318:
-			return "&#xf098;"; // phone-square
-		case 319:
-			return "&#xf03e;"; // photo
-		case 320:
-			return "&#xf03e;"; // picture-o
-		case 321:
-			return "&#xf1a7;"; // pied-piper
-		case 322:
-			return "&#xf1a8;"; // pied-piper-alt
-		case 323:
-			return "&#xf1a7;"; // pied-piper-square
-		case 324:
-			return "&#xf0d2;"; // pinterest
-		case 325:
-			return "&#xf0d3;"; // pinterest-square
-		case 326:
-			return "&#xf072;"; // plane
-		case 327:
-			return "&#xf04b;"; // play
-		case 328:
-			return "&#xf144;"; // play-circle
-		case 329:
-			return "&#xf01d;"; // play-circle-o
-		case 330:
-			return "&#xf067;"; // plus
-		case 331:
-			return "&#xf055;"; // plus-circle
-		case 332:
-			return "&#xf0fe;"; // plus-square
-		case 333:
-			return "&#xf196;"; // plus-square-o
-		case 334:
-			return "&#xf011;"; // power-off
-		case 335:
-			return "&#xf02f;"; // print
-		case 336:
-			return "&#xf12e;"; // puzzle-piece
-		case 337:
-			return "&#xf1d6;"; // qq
-		case 338:
-			return "&#xf029;"; // qrcode
-		case 339:
-			return "&#xf128;"; // question
-		case 340:
-			return "&#xf059;"; // question-circle
-		case 341:
-			return "&#xf10d;"; // quote-left
-		case 342:
-			return "&#xf10e;"; // quote-right
-		case 343:
-			return "&#xf1d0;"; // ra
-		case 344:
-			return "&#xf074;"; // random
-		case 345:
-			return "&#xf1d0;"; // rebel
-		case 346:
-			return "&#xf1b8;"; // recycle
-		case 347:
-			return "&#xf1a1;"; // reddit
-		case 348:
-			return "&#xf1a2;"; // reddit-square
-		case 349:
-			return "&#xf021;"; // refresh
-		case 350:
-			return "&#xf18b;"; // renren
-		case 351:
-			return "&#xf0c9;"; // reorder
-		case 352:
-			return "&#xf01e;"; // repeat
-		case 353:
-			return "&#xf112;"; // reply
-		case 354:
-			return "&#xf122;"; // reply-all
-		case 355:
-			return "&#xf079;"; // retweet
-		case 356:
-			return "&#xf157;"; // rmb
-		case 357:
-			return "&#xf018;"; // road
-		case 358:
-			return "&#xf135;"; // rocket
-		case 359:
-			return "&#xf0e2;"; // rotate-left
-		case 360:
-			return "&#xf01e;"; // rotate-right
-		case 361:
-			return "&#xf158;"; // rouble
-		case 362:
-			return "&#xf09e;"; // rss
-		case 363:
-			return "&#xf143;"; // rss-square
-		case 364:
-			return "&#xf158;"; // rub
-		case 365:
-			return "&#xf158;"; // ruble
-		case 366:
-			return "&#xf156;"; // rupee
-		case 367:
-			return "&#xf0c7;"; // save
-		case 368:
-			return "&#xf0c4;"; // scissors
-		case 369:
-			return "&#xf002;"; // search
-		case 370:
-			return "&#xf010;"; // search-minus
-		case 371:
-			return "&#xf00e;"; // search-plus
-		case 372:
-			return "&#xf1d8;"; // send
-		case 373:
-			return "&#xf1d9;"; // send-o
-		case 374:
-			return "&#xf064;"; // share
-		case 375:
-			return "&#xf1e0;"; // share-alt
-		case 376:
-			return "&#xf1e1;"; // share-alt-square
-		case 377:
-			return "&#xf14d;"; // share-square
-		case 378:
-			return "&#xf045;"; // share-square-o
-		case 379:
-			return "&#xf132;"; // shield
-		case 380:
-			return "&#xf07a;"; // shopping-cart
-		case 381:
-			return "&#xf090;"; // sign-in
-		case 382:
-			return "&#xf08b;"; // sign-out
-		case 383:
-			return "&#xf012;"; // signal
-		case 384:
-			return "&#xf0e8;"; // sitemap
-		case 385:
-			return "&#xf17e;"; // skype
-		case 386:
-			return "&#xf198;"; // slack
-		case 387:
-			return "&#xf1de;"; // sliders
-		case 388:
-			return "&#xf118;"; // smile-o
-		case 389:
-			return "&#xf0dc;"; // sort
-		case 390:
-			return "&#xf15d;"; // sort-alpha-asc
-		case 391:
-			return "&#xf15e;"; // sort-alpha-desc
-		case 392:
-			return "&#xf160;"; // sort-amount-asc
-		case 393:
-			return "&#xf161;"; // sort-amount-desc
-		case 394:
-			return "&#xf0de;"; // sort-asc
-		case 395:
-			return "&#xf0dd;"; // sort-desc
-		case 396:
-			return "&#xf0dd;"; // sort-down
-		case 397:
-			return "&#xf162;"; // sort-numeric-asc
-		case 398:
-			return "&#xf163;"; // sort-numeric-desc
-		case 399:
-			return "&#xf0de;"; // sort-up
-		case 400:
-			return "&#xf1be;"; // soundcloud
-		case 401:
-			return "&#xf197;"; // space-shuttle
-		case 402:
-			return "&#xf110;"; // spinner
-		case 403:
-			return "&#xf1b1;"; // spoon
-		case 404:
-			return "&#xf1bc;"; // spotify
-		case 405:
-			return "&#xf0c8;"; // square
-		case 406:
-			return "&#xf096;"; // square-o
-		case 407:
-			return "&#xf18d;"; // stack-exchange
-		case 408:
-			return "&#xf16c;"; // stack-overflow
-		case 409:
-			return "&#xf005;"; // star
-		case 410:
-			return "&#xf089;"; // star-half
-		case 411:
-			return "&#xf123;"; // star-half-empty
-		case 412:
-			return "&#xf123;"; // star-half-full
-		case 413:
-			return "&#xf123;"; // star-half-o
-		case 414:
-			return "&#xf006;"; // star-o
-		case 415:
-			return "&#xf1b6;"; // steam
-		case 416:
-			return "&#xf1b7;"; // steam-square
-		case 417:
-			return "&#xf048;"; // step-backward
-		case 418:
-			return "&#xf051;"; // step-forward
-		case 419:
-			return "&#xf0f1;"; // stethoscope
-		case 420:
-			return "&#xf04d;"; // stop
-		case 421:
-			return "&#xf0cc;"; // strikethrough
-		case 422:
-			return "&#xf1a4;"; // stumbleupon
-		case 423:
-			return "&#xf1a3;"; // stumbleupon-circle
-		case 424:
-			return "&#xf12c;"; // subscript
-		case 425:
-			return "&#xf0f2;"; // suitcase
-		case 426:
-			return "&#xf185;"; // sun-o
-		case 427:
-			return "&#xf12b;"; // superscript
-		case 428:
-			return "&#xf1cd;"; // support
-		case 429:
-			return "&#xf0ce;"; // table
-		case 430:
-			return "&#xf10a;"; // tablet
-		case 431:
-			return "&#xf0e4;"; // tachometer
-		case 432:
-			return "&#xf02b;"; // tag
-		case 433:
-			return "&#xf02c;"; // tags
-		case 434:
-			return "&#xf0ae;"; // tasks
-		case 435:
-			return "&#xf1ba;"; // taxi
-		case 436:
-			return "&#xf1d5;"; // tencent-weibo
-		case 437:
-			return "&#xf120;"; // terminal
-		case 438:
-			return "&#xf034;"; // text-height
-		case 439:
-			return "&#xf035;"; // text-width
-		case 440:
-			return "&#xf00a;"; // th
-		case 441:
-			return "&#xf009;"; // th-large
-		case 442:
-			return "&#xf00b;"; // th-list
-		case 443:
-			return "&#xf08d;"; // thumb-tack
-		case 444:
-			return "&#xf165;"; // thumbs-down
-		case 445:
-			return "&#xf088;"; // thumbs-o-down
-		case 446:
-			return "&#xf087;"; // thumbs-o-up
-		case 447:
-			return "&#xf164;"; // thumbs-up
-		case 448:
-			return "&#xf145;"; // ticket
-		case 449:
-			return "&#xf00d;"; // times
-		case 450:
-			return "&#xf057;"; // times-circle
-		case 451:
-			return "&#xf05c;"; // times-circle-o
-		case 452:
-			return "&#xf043;"; // tint
-		case 453:
-			return "&#xf150;"; // toggle-down
-		case 454:
-			return "&#xf191;"; // toggle-left
-		case 455:
-			return "&#xf152;"; // toggle-right
-		case 456:
-			return "&#xf151;"; // toggle-up
-		case 457:
-			return "&#xf014;"; // trash-o
-		case 458:
-			return "&#xf1bb;"; // tree
-		case 459:
-			return "&#xf181;"; // trello
-		case 460:
-			return "&#xf091;"; // trophy
-		case 461:
-			return "&#xf0d1;"; // truck
-		case 462:
-			return "&#xf195;"; // try_currency
-		case 463:
-			return "&#xf173;"; // tumblr
-		case 464:
-			return "&#xf174;"; // tumblr-square
-		case 465:
-			return "&#xf195;"; // turkish-lira
-		case 466:
-			return "&#xf099;"; // twitter
-		case 467:
-			return "&#xf081;"; // twitter-square
-		case 468:
-			return "&#xf0e9;"; // umbrella
-		case 469:
-			return "&#xf0cd;"; // underline
-		case 470:
-			return "&#xf0e2;"; // undo
-		case 471:
-			return "&#xf19c;"; // university
-		case 472:
-			return "&#xf127;"; // unlink
-		case 473:
-			return "&#xf09c;"; // unlock
-		case 474:
-			return "&#xf13e;"; // unlock-alt
-		case 475:
-			return "&#xf0dc;"; // unsorted
-		case 476:
-			return "&#xf093;"; // upload
-		case 477:
-			return "&#xf155;"; // usd
-		case 478:
-			return "&#xf007;"; // user
-		case 479:
-			return "&#xf0f0;"; // user-md
-		case 480:
-			return "&#xf0c0;"; // users
-		case 481:
-			return "&#xf03d;"; // video-camera
-		case 482:
-			return "&#xf194;"; // vimeo-square
-		case 483:
-			return "&#xf1ca;"; // vine
-		case 484:
-			return "&#xf189;"; // vk
-		case 485:
-			return "&#xf027;"; // volume-down
-		case 486:
-			return "&#xf026;"; // volume-off
-		case 487:
-			return "&#xf028;"; // volume-up
-		case 488:
-			return "&#xf071;"; // warning
-		case 489:
-			return "&#xf1d7;"; // wechat
-		case 490:
-			return "&#xf18a;"; // weibo
-		case 491:
-			return "&#xf1d7;"; // weixin
-		case 492:
-			return "&#xf193;"; // wheelchair
-		case 493:
-			return "&#xf17a;"; // windows
-		case 494:
-			return "&#xf159;"; // won
-		case 495:
-			return "&#xf19a;"; // wordpress
-		case 496:
-			return "&#xf0ad;"; // wrench
-		case 497:
-			return "&#xf168;"; // xing
-		case 498:
-			return "&#xf169;"; // xing-square
-		case 499:
-			return "&#xf19e;"; // yahoo
-		case 500:
-			return "&#xf157;"; // yen
-		case 501:
-			return "&#xf167;"; // youtube
-		case 502:
-			return "&#xf16a;"; // youtube-play
-		case 503:
-			return "&#xf166;"; // youtube-square
-
-		default:
-			return null;
+	private Typeface resolveGlyph() {
+		IconPack pack = mPack;
+		int code = mCode;
+		if (pack == null && IconTable.isValid(code)) {
+			final int themed = IconTheme.getThemedCode(code);
+			if (themed != -1) {
+				pack = IconTheme.getPack();
+				code = themed;
+			}
+		}
+		mResolvedPack = pack;
+
+		if (pack == null) {
+			mGlyphId = IconTable.getGlyphId(code);
+			if (mGlyphId != IconTable.NO_GLYPH) {
+				mGlyphChars[0] = IconTable.getGlyph(mGlyphId);
+			}
+			return Typefaces.getFontAwesome(getContext());
 		}
+		mGlyphId = pack.getGlyphId(code);
+		if (mGlyphId != IconTable.NO_GLYPH) {
+			mGlyphChars[0] = pack.getGlyph(mGlyphId);
+		}
+		return pack.getTypeface();
+	}
+
+	/**
+	 * @return Logo type code of the view (the code within its icon pack, if
+	 *         it has one), -1 if none is set.
+	 */
+	public int getLogoType() {
+		return mCode;
+	}
+
+	/**
+	 * @return Icon pack of the logo, null for the built-in logo types.
+	 */
+	public IconPack getIconPack() {
+		return mPack;
+	}
+
+	/**
+	 * @return Icon pack the glyph is drawn from, which may be the pack of the
+	 *         IconTheme; null for FontAwesome.
+	 */
+	IconPack getResolvedPack() {
+		return mResolvedPack;
+	}
+
+	/**
+	 * @return true if the view was inflated in lazy mode (<i>lazy</i>
+	 *         attribute), in which it only stores its logo until it is
+	 *         attached and visible for the first time. Only then are the text
+	 *         and its layout set; until then the view draws nothing but
+	 *         already measures as the glyph will, from the font metrics, so
+	 *         showing it needs no new layout pass (except with a label). Use
+	 *         it for the many LogoViews of long scrolling screens, most of
+	 *         which are never shown.
+	 */
+	public boolean isLazy() {
+		return mLazy;
+	}
+
+	/**
+	 * @return true while a lazy view waits to be shown.
+	 */
+	private boolean isPending() {
+		return mLazy && !mResolved;
+	}
+
+	/**
+	 * Resolves the logo of a lazy view if any part of it is visible on the
+	 * screen.
+	 * 
+	 * @return true if the view got resolved.
+	 */
+	private boolean resolveIfVisible() {
+		if (!isShown() || !getGlobalVisibleRect(sVisibleRect)) {
+			return false;
+		}
+		mResolved = true;
+		// the placeholder of a label only has the size of the glyph
+		mKeepLayout = mLabel == null;
+		try {
+			resolveLogo();
+		} finally {
+			mKeepLayout = false;
+		}
+		invalidate();
+		return true;
+	}
+
+	/**
+	 * Adds a pending view to the views checked before each frame.
+	 */
+	private void addPending() {
+		sPendingViews.add(this);
+		sPendingMoved = true;
+		// one listener per window, whatever the number of its views
+		ViewTreeObserver observer = getViewTreeObserver();
+		observer.removeOnPreDrawListener(sLazyListener);
+		observer.removeOnScrollChangedListener(sLazyListener);
+		observer.addOnPreDrawListener(sLazyListener);
+		observer.addOnScrollChangedListener(sLazyListener);
+	}
+
+	/**
+	 * Removes a view from the checked views, and the listener from its window
+	 * if it was the last one there.
+	 */
+	private void removePending() {
+		if (!sPendingViews.remove(this)) {
+			return;
+		}
+		ViewTreeObserver observer = getViewTreeObserver();
+		for (int i = 0; i < sPendingViews.size(); i++) {
+			if (sPendingViews.get(i).getViewTreeObserver() == observer) {
+				return;
+			}
+		}
+		if (observer.isAlive()) {
+			observer.removeOnPreDrawListener(sLazyListener);
+			observer.removeOnScrollChangedListener(sLazyListener);
+		}
+	}
+
+	/**
+	 * Resolves the pending views that became visible, before the frame they
+	 * are first drawn in. All of them are checked after a scroll, a layout or
+	 * a visibility change that may have shown them; otherwise a few of them
+	 * are checked per frame in turn, so views moved without a layout (e.g.
+	 * by translation) are found too, at a bounded cost.
+	 */
+	private static final class LazyListener implements
+			ViewTreeObserver.OnPreDrawListener,
+			ViewTreeObserver.OnScrollChangedListener {
+
+		@Override
+		public boolean onPreDraw() {
+			if (sPendingMoved) {
+				sPendingMoved = false;
+				for (int i = sPendingViews.size() - 1; i >= 0; i--) {
+					LogoView view = sPendingViews.get(i);
+					if (view.resolveIfVisible()) {
+						view.removePending();
+					}
+				}
+			} else {
+				for (int i = 0; i < PENDING_CHECKS_PER_FRAME
+						&& !sPendingViews.isEmpty(); i++) {
+					if (sPendingNext >= sPendingViews.size()) {
+						sPendingNext = 0;
+					}
+					LogoView view = sPendingViews.get(sPendingNext);
+					if (view.resolveIfVisible()) {
+						// the next view moved to this index
+						view.removePending();
+					} else {
+						sPendingNext++;
+					}
+				}
+			}
+			// resolved views are drawn in this frame already
+			return true;
+		}
+
+		@Override
+		public void onScrollChanged() {
+			sPendingMoved = true;
+		}
+	}
+
+	@Override
+	protected void onVisibilityChanged(View changedView, int visibility) {
+		super.onVisibilityChanged(changedView, visibility);
+		// called for the view and its ancestors
+		if (isPending()) {
+			sPendingMoved = true;
+		}
+	}
+
+	@Override
+	protected void onWindowVisibilityChanged(int visibility) {
+		super.onWindowVisibilityChanged(visibility);
+		if (isPending()) {
+			sPendingMoved = true;
+		}
+	}
+
+	@Override
+	protected void onAttachedToWindow() {
+		super.onAttachedToWindow();
+		IconTheme.register(this);
+		if (isPending()) {
+			addPending();
+		} else if (mPack == null
+				&& mResolvedPack != IconTheme.getPackFor(mCode)) {
+			// the theme was switched while the view was detached
+			resolveLogo();
+		}
+	}
+
+	/**
+	 * Starts recording layout requests and invalidations instead of
+	 * performing them.
+	 */
+	void beginBatch() {
+		mInBatch = true;
+		mBatchLayoutRequested = false;
+		mBatchInvalidated = false;
+	}
+
+	/**
+	 * Stops recording, invalidates the view once if it was invalidated during
+	 * the batch.
+	 * 
+	 * @return true if a layout was requested during the batch, which the
+	 *         caller has to request instead.
+	 */
+	boolean endBatch() {
+		mInBatch = false;
+		if (mBatchInvalidated) {
+			super.invalidate();
+		}
+		return mBatchLayoutRequested;
+	}
+
+	@Override
+	public void requestLayout() {
+		if (mKeepLayout) {
+			// the text of a resolved lazy view has the size of its placeholder
+			return;
+		}
+		if (mInBatch) {
+			mBatchLayoutRequested = true;
+			return;
+		}
+		super.requestLayout();
+	}
+
+	@Override
+	public void invalidate() {
+		if (mInBatch) {
+			mBatchInvalidated = true;
+			return;
+		}
+		super.invalidate();
+	}
+
+	/**
+	 * Turns the tight bounds mode on or off. In this mode the view is measured
+	 * from the ink bounds of its glyph (plus padding) instead of the font
+	 * ascent and descent, and the glyph is centered in the view. The bounds
+	 * are cached per glyph and text size across all LogoViews, so measuring
+	 * is a table lookup.
+	 * 
+	 * @param tightBounds
+	 *            true to size the view to its glyph.
+	 */
+	public void setTightBounds(boolean tightBounds) {
+		if (mTightBounds != tightBounds) {
+			mTightBounds = tightBounds;
+			requestLayout();
+			invalidate();
+		}
+	}
+
+	/**
+	 * @return true if the view is sized to the ink bounds of its glyph.
+	 */
+	public boolean isTightBounds() {
+		return mTightBounds;
+	}
+
+	/**
+	 * Turns the mip-mapped mode on or off. In this mode the glyph is drawn
+	 * from a chain of cached masks at power-of-two sizes (see GlyphCache),
+	 * centered in the padded area, so drawing it at any size or glyph scale
+	 * costs the same. Use it for views whose glyph size is animated, e.g.
+	 * with setGlyphScale().
+	 * 
+	 * @param mipMapped
+	 *            true to draw the glyph from the mip chain.
+	 */
+	public void setMipMapped(boolean mipMapped) {
+		if (mMipMapped != mipMapped) {
+			mMipMapped = mipMapped;
+			mMipMask = null;
+			invalidate();
+		}
+	}
+
+	/**
+	 * @return true if the glyph is drawn from the mip chain.
+	 */
+	public boolean isMipMapped() {
+		return mMipMapped;
+	}
+
+	/**
+	 * Scales the glyph when it is drawn, without changing the size of the
+	 * view. Only used in mip-mapped mode, where it can be animated without
+	 * rendering the glyph again.
+	 * 
+	 * @param scale
+	 *            Scale of the glyph, 1 = text size.
+	 */
+	public void setGlyphScale(float scale) {
+		if (mGlyphScale != scale) {
+			mGlyphScale = scale;
+			invalidate();
+		}
+	}
+
+	/**
+	 * @return Scale of the glyph in mip-mapped mode.
+	 */
+	public float getGlyphScale() {
+		return mGlyphScale;
+	}
+
+	/**
+	 * Renders the mip levels for drawing this view's glyph between two glyph
+	 * scales ahead of time, e.g. before animating setGlyphScale().
+	 * 
+	 * @param minScale
+	 *            Smallest glyph scale.
+	 * @param maxScale
+	 *            Largest glyph scale.
+	 */
+	public void prepareMipChain(float minScale, float maxScale) {
+		if (mGlyphId != IconTable.NO_GLYPH) {
+			GlyphCache.prepareMipChain(getTypeface(), mGlyphChars[0],
+					mGlyphId, getTextSize() * minScale, getTextSize()
+							* maxScale);
+		}
+	}
+
+	/**
+	 * Sets the memory budget of the glyph masks cached for spin and
+	 * mip-mapped modes, shared by all LogoViews and all mip levels. Cached
+	 * masks are dropped.
+	 * 
+	 * @param maxBytes
+	 *            Budget in bytes, by default 1/64 of the heap.
+	 */
+	public static void setGlyphCacheSize(int maxBytes) {
+		GlyphCache.setMaxBytes(maxBytes);
+	}
+
+	private void drawMip(Canvas canvas) {
+		final float size = getTextSize() * mGlyphScale;
+		final int level = GlyphCache.getMipSize(size);
+		if (mMipMask == null || mMipMaskGlyphId != mGlyphId
+				|| mMipMaskSize != level) {
+			mMipMask = GlyphCache.get(getTypeface(), mGlyphChars[0],
+					mGlyphId, level);
+			mMipMaskGlyphId = mGlyphId;
+			mMipMaskSize = level;
+		}
+
+		final float scale = size / level;
+		final float halfWidth = mMipMask.bitmap.getWidth() * scale / 2f;
+		final float halfHeight = mMipMask.bitmap.getHeight() * scale / 2f;
+		final float centerX = getScrollX()
+				+ (getPaddingLeft() + getWidth() - getPaddingRight()) / 2f;
+		final float centerY = getScrollY()
+				+ (getPaddingTop() + getHeight() - getPaddingBottom()) / 2f;
+		mMipRect.set(centerX - halfWidth, centerY - halfHeight, centerX
+				+ halfWidth, centerY + halfHeight);
+		canvas.drawBitmap(mMipMask.bitmap, null, mMipRect, tintMaskPaint());
+	}
+
+	/**
+	 * @return Paint drawing masks in the current text color.
+	 */
+	private Paint tintMaskPaint() {
+		final int color = getCurrentTextColor();
+		if (mMaskColor != color || mMaskPaint.getColorFilter() == null) {
+			mMaskPaint.setColorFilter(GlyphCache.getTint(color));
+			mMaskColor = color;
+		}
+		return mMaskPaint;
+	}
+
+	/**
+	 * Sets a label shown after the icon, in the default typeface and the same
+	 * text size and color as the icon. This saves a separate TextView next to
+	 * the LogoView. The text layout of the icon and label is taken from
+	 * LabelLayoutCache, see LabelLayoutCache.prefetch() to build it ahead.
+	 * 
+	 * @param label
+	 *            Label text, null to show just the icon.
+	 */
+	public void setLabel(CharSequence label) {
+		mLabel = label;
+		mLabelLayout = null;
+		requestLayout();
+		invalidate();
+	}
+
+	/**
+	 * @return Label shown after the icon, null if there is none.
+	 */
+	public CharSequence getLabel() {
+		return mLabel;
+	}
+
+	private boolean hasLabel() {
+		return mLabel != null && mGlyphId != IconTable.NO_GLYPH;
+	}
+
+	/**
+	 * Makes sure mLabelLayout fits the available width and text size.
+	 */
+	private StaticLayout getLabelLayout(int width) {
+		final float textSize = getTextSize();
+		if (mLabelLayout == null || mLabelWidth != width
+				|| mLabelTextSize != textSize) {
+			mLabelLayout = LabelLayoutCache.get(getTypeface(), mGlyphId,
+					getText().toString(), mLabel, width, textSize);
+			mLabelWidth = width;
+			mLabelTextSize = textSize;
+		}
+		return mLabelLayout;
+	}
+
+	private void measureLabel(int widthMeasureSpec, int heightMeasureSpec) {
+		final int paddingWidth = getPaddingLeft() + getPaddingRight();
+		final int paddingHeight = getPaddingTop() + getPaddingBottom();
+
+		int available = LabelLayoutCache.UNBOUNDED;
+		if (MeasureSpec.getMode(widthMeasureSpec) != MeasureSpec.UNSPECIFIED) {
+			available = Math.max(0, MeasureSpec.getSize(widthMeasureSpec)
+					- paddingWidth);
+		}
+		StaticLayout layout = getLabelLayout(available);
+
+		float lineWidth = 0;
+		for (int i = 0; i < layout.getLineCount(); i++) {
+			lineWidth = Math.max(lineWidth, layout.getLineWidth(i));
+		}
+		final int width = (int) Math.ceil(lineWidth) + paddingWidth;
+		final int height = layout.getHeight() + paddingHeight;
+		setMeasuredDimension(resolveSize(width, widthMeasureSpec),
+				resolveSize(height, heightMeasureSpec));
+	}
+
+	private void drawLabel(Canvas canvas) {
+		final int top = getPaddingTop();
+		final int availableHeight = getHeight() - top - getPaddingBottom();
+		StaticLayout layout = getLabelLayout(mLabelWidth);
+
+		canvas.save();
+		canvas.translate(getScrollX() + getPaddingLeft(), getScrollY() + top
+				+ (availableHeight - layout.getHeight()) / 2f);
+		layout.getPaint().setColor(getCurrentTextColor());
+		layout.draw(canvas);
+		canvas.restore();
+	}
+
+	@Override
+	protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+		if (!LogoProfiler.sEnabled) {
+			measureContent(widthMeasureSpec, heightMeasureSpec);
+			return;
+		}
+		final long start = System.nanoTime();
+		measureContent(widthMeasureSpec, heightMeasureSpec);
+		LogoProfiler.time(LogoProfiler.MEASURES,
+				LogoProfiler.iconKey(mPack, mCode), start);
+	}
+
+	@Override
+	protected void onLayout(boolean changed, int left, int top, int right,
+			int bottom) {
+		if (isPending()) {
+			sPendingMoved = true;
+		}
+		if (!LogoProfiler.sEnabled) {
+			super.onLayout(changed, left, top, right, bottom);
+			return;
+		}
+		final long start = System.nanoTime();
+		super.onLayout(changed, left, top, right, bottom);
+		LogoProfiler.time(LogoProfiler.LAYOUTS,
+				LogoProfiler.iconKey(mPack, mCode), start);
+	}
+
+	private void measureContent(int widthMeasureSpec, int heightMeasureSpec) {
+		if (isPending()) {
+			measurePlaceholder(widthMeasureSpec, heightMeasureSpec);
+			return;
+		}
+		if (hasLabel()) {
+			measureLabel(widthMeasureSpec, heightMeasureSpec);
+			return;
+		}
+		if (!mTightBounds || mGlyphId == IconTable.NO_GLYPH) {
+			super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+			return;
+		}
+
+		GlyphMetrics.getBounds(mGlyphId, mGlyphChars[0], getPaint(),
+				mGlyphBounds);
+		int width = mGlyphBounds.width() + getPaddingLeft() + getPaddingRight();
+		int height = mGlyphBounds.height() + getPaddingTop()
+				+ getPaddingBottom();
+		setMeasuredDimension(resolveSize(width, widthMeasureSpec),
+				resolveSize(height, heightMeasureSpec));
+	}
+
+	/**
+	 * Measures a pending lazy view as its glyph will be measured once the
+	 * text is set: by the ink bounds in tight bounds mode, otherwise by the
+	 * advance of the glyph and the line height of the font, as TextView does.
+	 */
+	private void measurePlaceholder(int widthMeasureSpec, int heightMeasureSpec) {
+		// set on the paint directly, setTypeface() would request a layout;
+		// it is a no-op once the view is resolved
+		getPaint().setTypeface(resolveGlyph());
+
+		int width;
+		int height;
+		if (mTightBounds && mGlyphId != IconTable.NO_GLYPH) {
+			GlyphMetrics.getBounds(mGlyphId, mGlyphChars[0], getPaint(),
+					mGlyphBounds);
+			width = mGlyphBounds.width() + getPaddingLeft()
+					+ getPaddingRight();
+			height = mGlyphBounds.height() + getPaddingTop()
+					+ getPaddingBottom();
+		} else {
+			Paint.FontMetricsInt metrics = getPaint().getFontMetricsInt();
+			width = 0;
+			if (mGlyphId != IconTable.NO_GLYPH) {
+				width = (int) Math.ceil(getPaint().measureText(mGlyphChars,
+						0, 1));
+			}
+			width = Math.max(width + getCompoundPaddingLeft()
+					+ getCompoundPaddingRight(), getSuggestedMinimumWidth());
+			height = Math.max(metrics.bottom - metrics.top
+					+ getCompoundPaddingTop() + getCompoundPaddingBottom(),
+					getSuggestedMinimumHeight());
+		}
+		setMeasuredDimension(resolveSize(width, widthMeasureSpec),
+				resolveSize(height, heightMeasureSpec));
+	}
+
+	/**
+	 * Draws the content of the view (without background).
+	 */
+	private void drawContent(Canvas canvas) {
+		if (hasLabel()) {
+			drawLabel(canvas);
+			return;
+		}
+		if (mMipMapped && mGlyphId != IconTable.NO_GLYPH) {
+			drawMip(canvas);
+			return;
+		}
+		if (!mTightBounds || mGlyphId == IconTable.NO_GLYPH) {
+			super.onDraw(canvas);
+			return;
+		}
+
+		// center the ink of the glyph in the padded area
+		GlyphMetrics.getBounds(mGlyphId, mGlyphChars[0], getPaint(),
+				mGlyphBounds);
+		final int left = getPaddingLeft();
+		final int top = getPaddingTop();
+		final int availableWidth = getWidth() - left - getPaddingRight();
+		final int availableHeight = getHeight() - top - getPaddingBottom();
+		final float x = getScrollX() + left - mGlyphBounds.left
+				+ (availableWidth - mGlyphBounds.width()) / 2f;
+		final float y = getScrollY() + top - mGlyphBounds.top
+				+ (availableHeight - mGlyphBounds.height()) / 2f;
+
+		Paint paint = getPaint();
+		paint.setColor(getCurrentTextColor());
+		canvas.drawText(mGlyphChars, 0, 1, x, y, paint);
+	}
+
+	/**
+	 * Turns the spin mode on or off. While spinning, the view rotates the
+	 * cached mask of its glyph (see GlyphCache) around the center of its
+	 * padded area instead of drawing the text on every frame, which makes it
+	 * suitable as a loading indicator (e.g. <i>spinner</i> or
+	 * <i>refresh</i>). The ink of the glyph is centered, so it does not wobble.
+	 * 
+	 * The animation is driven by the drawing itself, so it pauses whenever
+	 * the view is invisible or detached from its window and resumes when it
+	 * is shown again.
+	 * 
+	 * @param spinning
+	 *            true to start spinning, false to stop.
+	 */
+	public void setSpinning(boolean spinning) {
+		if (mSpinning == spinning) {
+			return;
+		}
+		mSpinning = spinning;
+		if (!spinning) {
+			mSpinMask = null;
+		}
+		invalidate();
+	}
+
+	/**
+	 * @return true if the view is in spin mode.
+	 */
+	public boolean isSpinning() {
+		return mSpinning;
+	}
+
+	/**
+	 * Sets how long one full turn takes in spin mode.
+	 * 
+	 * @param duration
+	 *            Duration of one turn in milliseconds, must be positive.
+	 */
+	public void setSpinDuration(int duration) {
+		mSpinDuration = LogoAttributes.checkSpinDuration(duration);
+	}
+
+	/**
+	 * @return Duration of one full turn in spin mode, in milliseconds.
+	 */
+	public int getSpinDuration() {
+		return mSpinDuration;
+	}
+
+	@Override
+	protected void onDraw(Canvas canvas) {
+		if (!LogoProfiler.sEnabled) {
+			drawView(canvas);
+			return;
+		}
+		final long start = System.nanoTime();
+		drawView(canvas);
+		LogoProfiler.time(LogoProfiler.DRAWS,
+				LogoProfiler.iconKey(mPack, mCode), start);
+	}
+
+	private void drawView(Canvas canvas) {
+		if (isPending()) {
+			// the glyph is known from measuring, but only drawn once shown
+			return;
+		}
+		if (!mSpinning) {
+			drawContent(canvas);
+			return;
+		}
+
+		final float centerX = getScrollX()
+				+ (getPaddingLeft() + getWidth() - getPaddingRight()) / 2f;
+		final float centerY = getScrollY()
+				+ (getPaddingTop() + getHeight() - getPaddingBottom()) / 2f;
+		final long now = AnimationUtils.currentAnimationTimeMillis();
+		final float degrees = (now % mSpinDuration) * 360f / mSpinDuration;
+
+		canvas.save();
+		canvas.rotate(degrees, centerX, centerY);
+		if (hasLabel() || mGlyphId == IconTable.NO_GLYPH) {
+			drawContent(canvas);
+		} else {
+			GlyphCache.GlyphMask mask = getSpinMask();
+			canvas.drawBitmap(mask.bitmap, centerX - mask.bitmap.getWidth()
+					/ 2f, centerY - mask.bitmap.getHeight() / 2f,
+					tintMaskPaint());
+		}
+		canvas.restore();
+
+		// schedules the next frame, nothing is posted while the view is not
+		// drawn, so the animation stops by itself when hidden or detached
+		ViewCompat.postInvalidateOnAnimation(this);
+	}
+
+	/**
+	 * Returns the mask drawn while spinning, taking it from GlyphCache only
+	 * when the glyph or text size changed.
+	 */
+	private GlyphCache.GlyphMask getSpinMask() {
+		final int size = Math.round(getTextSize());
+		if (mSpinMask == null || mSpinMaskGlyphId != mGlyphId
+				|| mSpinMaskSize != size) {
+			mSpinMask = GlyphCache.get(getTypeface(), mGlyphChars[0],
+					mGlyphId, size);
+			mSpinMaskGlyphId = mGlyphId;
+			mSpinMaskSize = size;
+		}
+		return mSpinMask;
+	}
+
+	@Override
+	protected void onDetachedFromWindow() {
+		super.onDetachedFromWindow();
+		// the masks stay in GlyphCache, only these references are dropped
+		mSpinMask = null;
+		mMipMask = null;
+		removePending();
+		IconTheme.unregister(this);
+	}
+
+	/**
+	 * Saves only the logo (code and icon pack), the text and its spans are
+	 * rebuilt from it on restore. A view still showing the logo of its
+	 * attributes saves nothing beyond the TextView state, as it is inflated
+	 * with that logo again.
+	 */
+	@Override
+	public Parcelable onSaveInstanceState() {
+		final Parcelable superState = super.onSaveInstanceState();
+		if (mPack == null && mCode == mInflatedCode) {
+			return superState;
+		}
+		SavedState state = new SavedState(superState);
+		state.code = mCode;
+		state.packPath = mPack != null ? mPack.getPath() : null;
+		return state;
+	}
+
+	@Override
+	public void onRestoreInstanceState(Parcelable state) {
+		if (!(state instanceof SavedState)) {
+			super.onRestoreInstanceState(state);
+			return;
+		}
+		SavedState saved = (SavedState) state;
+		super.onRestoreInstanceState(saved.getSuperState());
+
+		if (saved.packPath == null) {
+			setLogoType(saved.code);
+		} else {
+			// the pack may not be registered (yet) in a restarted process,
+			// then the logo from the layout stays
+			IconPack pack = IconPack.find(saved.packPath);
+			if (pack != null) {
+				setLogo(pack, saved.code);
+			}
+		}
+	}
+
+	/**
+	 * Saved state of a LogoView: the logo code and, for icons of a pack, the
+	 * path of the pack's font. The path is saved instead of the pack ID, as
+	 * IDs are only valid within a process.
+	 */
+	static class SavedState extends BaseSavedState {
+		int code;
+		String packPath;
+
+		SavedState(Parcelable superState) {
+			super(superState);
+		}
+
+		private SavedState(Parcel in) {
+			super(in);
+			code = in.readInt();
+			packPath = in.readString();
+		}
+
+		@Override
+		public void writeToParcel(Parcel out, int flags) {
+			super.writeToParcel(out, flags);
+			out.writeInt(code);
+			out.writeString(packPath);
+		}
+
+		public static final Parcelable.Creator<SavedState> CREATOR = new Parcelable.Creator<SavedState>() {
+			@Override
+			public SavedState createFromParcel(Parcel in) {
+				return new SavedState(in);
+			}
+
+			@Override
+			public SavedState[] newArray(int size) {
+				return new SavedState[size];
+			}
+		};
 	}
 
 	@Override
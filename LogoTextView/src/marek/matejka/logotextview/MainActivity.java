@@ -16,8 +16,11 @@
 
 package marek.matejka.logotextview;
 
+import java.io.IOException;
+
 import android.os.Bundle;
 import android.app.Activity;
+import android.util.Log;
 import android.view.Menu;
 
 public class MainActivity extends Activity {
@@ -25,7 +28,36 @@ public class MainActivity extends Activity {
 	@Override
 	protected void onCreate(Bundle savedInstanceState) {
 		super.onCreate(savedInstanceState);
+		if (getIntent().getBooleanExtra("profile", false)) {
+			LogoProfiler.enable();
+		}
 		setContentView(R.layout.activity_main);
+
+		if (getIntent().getBooleanExtra("benchmark", false)) {
+			Log.i("LogoTextView", InflationBenchmark.run(this,
+					R.layout.inflation_benchmark, 200));
+			Log.i("LogoTextView", InflationBenchmark.savedStateSize(this, 500));
+		}
+	}
+
+	@Override
+	protected void onResume() {
+		super.onResume();
+		LogoProfiler.setScreen(getClass().getSimpleName());
+	}
+
+	@Override
+	protected void onPause() {
+		super.onPause();
+		if (LogoProfiler.isEnabled()) {
+			try {
+				LogoProfiler.writeJson(this);
+				Log.i("LogoTextView", "Profile written to "
+						+ LogoProfiler.writeCsv(this));
+			} catch (IOException e) {
+				Log.e("LogoTextView", "Cannot write profile", e);
+			}
+		}
 	}
 
 	@Override
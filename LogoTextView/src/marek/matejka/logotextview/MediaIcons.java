@@ -0,0 +1,94 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * Media player logo types of IconTable.
+ * 
+ * The constants are logo type codes as in <i>res/attrs.xml</i>. Being
+ * compile-time constants, they do not keep this class in a shrunk app, only
+ * install() does (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class MediaIcons {
+
+	public static final int BACKWARD = 38;
+	public static final int COMPRESS = 118;
+	public static final int EJECT = 142;
+	public static final int EXPAND = 156;
+	public static final int FAST_BACKWARD = 163;
+	public static final int FAST_FORWARD = 164;
+	public static final int FORWARD = 203;
+	public static final int PAUSE = 312;
+	public static final int PLAY = 327;
+	public static final int PLAY_CIRCLE = 328;
+	public static final int PLAY_CIRCLE_O = 329;
+	public static final int STEP_BACKWARD = 417;
+	public static final int STEP_FORWARD = 418;
+	public static final int STOP = 420;
+
+	// codes, names and Unicode of the category, in code order
+	private static final int[] CODES = {
+			38, 118, 142, 156, 163, 164, 203, 312, 327, 328, 329, 417, 418,
+			420 };
+
+	private static final String[] NAMES = {
+			"backward", // 38
+			"compress", // 118
+			"eject", // 142
+			"expand", // 156
+			"fast-backward", // 163
+			"fast-forward", // 164
+			"forward", // 203
+			"pause", // 312
+			"play", // 327
+			"play-circle", // 328
+			"play-circle-o", // 329
+			"step-backward", // 417
+			"step-forward", // 418
+			"stop", // 420
+	};
+
+	private static final char[] CODEPOINTS = {
+			0xf04a, // backward
+			0xf066, // compress
+			0xf052, // eject
+			0xf065, // expand
+			0xf049, // fast-backward
+			0xf050, // fast-forward
+			0xf04e, // forward
+			0xf04c, // pause
+			0xf04b, // play
+			0xf144, // play-circle
+			0xf01d, // play-circle-o
+			0xf048, // step-backward
+			0xf051, // step-forward
+			0xf04d, // stop
+	};
+
+	private MediaIcons() {
+	}
+
+	/**
+	 * Adds the logo types of the category to IconTable, unless they are in it
+	 * already.
+	 */
+	public static void install() {
+		IconTable.install(CODES, NAMES, CODEPOINTS);
+	}
+}
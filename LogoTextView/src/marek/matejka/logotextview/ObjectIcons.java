@@ -0,0 +1,279 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * Object logo types of IconTable: devices, tools, food and other
+ * things.
+ * 
+ * The constants are logo type codes as in <i>res/attrs.xml</i>. Being
+ * compile-time constants, they do not keep this class in a shrunk app, only
+ * install() does (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class ObjectIcons {
+
+	public static final int ANCHOR = 8;
+	public static final int ARCHIVE = 19;
+	public static final int BAR_CHART_O = 41;
+	public static final int BARCODE = 42;
+	public static final int BEER = 44;
+	public static final int BOLT = 53;
+	public static final int BOMB = 54;
+	public static final int BOOK = 55;
+	public static final int BRIEFCASE = 58;
+	public static final int BUG = 60;
+	public static final int CALENDAR = 66;
+	public static final int CALENDAR_O = 67;
+	public static final int CAMERA = 68;
+	public static final int CAMERA_RETRO = 69;
+	public static final int CLOCK_O = 101;
+	public static final int CLOUD = 102;
+	public static final int CODE = 106;
+	public static final int CODE_FORK = 107;
+	public static final int COFFEE = 109;
+	public static final int CREDIT_CARD = 120;
+	public static final int CUBE = 124;
+	public static final int CUBES = 125;
+	public static final int CUTLERY = 127;
+	public static final int DATABASE = 129;
+	public static final int DESKTOP = 132;
+	public static final int FILM = 187;
+	public static final int FIRE = 189;
+	public static final int FIRE_EXTINGUISHER = 190;
+	public static final int FLASH = 194;
+	public static final int FLASK = 195;
+	public static final int FOLDER = 198;
+	public static final int FOLDER_O = 199;
+	public static final int FOLDER_OPEN = 200;
+	public static final int FOLDER_OPEN_O = 201;
+	public static final int GAMEPAD = 206;
+	public static final int GAVEL = 207;
+	public static final int GIFT = 212;
+	public static final int GLASS = 219;
+	public static final int HDD_O = 232;
+	public static final int HEADPHONES = 234;
+	public static final int IMAGE = 241;
+	public static final int KEY = 253;
+	public static final int KEYBOARD_O = 254;
+	public static final int LAPTOP = 257;
+	public static final int LEAF = 258;
+	public static final int LEGAL = 259;
+	public static final int LEMON_O = 260;
+	public static final int LIGHTBULB_O = 266;
+	public static final int MAGNET = 282;
+	public static final int MOBILE = 297;
+	public static final int MOBILE_PHONE = 298;
+	public static final int MOON_O = 300;
+	public static final int MUSIC = 302;
+	public static final int PAW = 313;
+	public static final int PHOTO = 319;
+	public static final int PICTURE_O = 320;
+	public static final int PRINT = 335;
+	public static final int PUZZLE_PIECE = 336;
+	public static final int QRCODE = 338;
+	public static final int RECYCLE = 346;
+	public static final int SHIELD = 379;
+	public static final int SHOPPING_CART = 380;
+	public static final int SPOON = 403;
+	public static final int SUITCASE = 425;
+	public static final int SUN_O = 426;
+	public static final int TABLET = 430;
+	public static final int TERMINAL = 437;
+	public static final int THUMB_TACK = 443;
+	public static final int TICKET = 448;
+	public static final int TINT = 452;
+	public static final int TREE = 458;
+	public static final int UMBRELLA = 468;
+	public static final int VIDEO_CAMERA = 481;
+	public static final int WRENCH = 496;
+
+	// codes, names and Unicode of the category, in code order
+	private static final int[] CODES = {
+			8, 19, 41, 42, 44, 53, 54, 55, 58, 60, 66, 67, 68, 69, 101, 102,
+			106, 107, 109, 120, 124, 125, 127, 129, 132, 187, 189, 190, 194,
+			195, 198, 199, 200, 201, 206, 207, 212, 219, 232, 234, 241, 253,
+			254, 257, 258, 259, 260, 266, 282, 297, 298, 300, 302, 313, 319,
+			320, 335, 336, 338, 346, 379, 380, 403, 425, 426, 430, 437, 443,
+			448, 452, 458, 468, 481, 496 };
+
+	private static final String[] NAMES = {
+			"anchor", // 8
+			"archive", // 19
+			"bar-chart-o", // 41
+			"barcode", // 42
+			"beer", // 44
+			"bolt", // 53
+			"bomb", // 54
+			"book", // 55
+			"briefcase", // 58
+			"bug", // 60
+			"calendar", // 66
+			"calendar-o", // 67
+			"camera", // 68
+			"camera-retro", // 69
+			"clock-o", // 101
+			"cloud", // 102
+			"code", // 106
+			"code-fork", // 107
+			"coffee", // 109
+			"credit-card", // 120
+			"cube", // 124
+			"cubes", // 125
+			"cutlery", // 127
+			"database", // 129
+			"desktop", // 132
+			"film", // 187
+			"fire", // 189
+			"fire-extinguisher", // 190
+			"flash", // 194
+			"flask", // 195
+			"folder", // 198
+			"folder-o", // 199
+			"folder-open", // 200
+			"folder-open-o", // 201
+			"gamepad", // 206
+			"gavel", // 207
+			"gift", // 212
+			"glass", // 219
+			"hdd-o", // 232
+			"headphones", // 234
+			"image", // 241
+			"key", // 253
+			"keyboard-o", // 254
+			"laptop", // 257
+			"leaf", // 258
+			"legal", // 259
+			"lemon-o", // 260
+			"lightbulb-o", // 266
+			"magnet", // 282
+			"mobile", // 297
+			"mobile-phone", // 298
+			"moon-o", // 300
+			"music", // 302
+			"paw", // 313
+			"photo", // 319
+			"picture-o", // 320
+			"print", // 335
+			"puzzle-piece", // 336
+			"qrcode", // 338
+			"recycle", // 346
+			"shield", // 379
+			"shopping-cart", // 380
+			"spoon", // 403
+			"suitcase", // 425
+			"sun-o", // 426
+			"tablet", // 430
+			"terminal", // 437
+			"thumb-tack", // 443
+			"ticket", // 448
+			"tint", // 452
+			"tree", // 458
+			"umbrella", // 468
+			"video-camera", // 481
+			"wrench", // 496
+	};
+
+	private static final char[] CODEPOINTS = {
+			0xf13d, // anchor
+			0xf187, // archive
+			0xf080, // bar-chart-o
+			0xf02a, // barcode
+			0xf0fc, // beer
+			0xf0e7, // bolt
+			0xf1e2, // bomb
+			0xf02d, // book
+			0xf0b1, // briefcase
+			0xf188, // bug
+			0xf073, // calendar
+			0xf133, // calendar-o
+			0xf030, // camera
+			0xf083, // camera-retro
+			0xf017, // clock-o
+			0xf0c2, // cloud
+			0xf121, // code
+			0xf126, // code-fork
+			0xf0f4, // coffee
+			0xf09d, // credit-card
+			0xf1b2, // cube
+			0xf1b3, // cubes
+			0xf0f5, // cutlery
+			0xf1c0, // database
+			0xf108, // desktop
+			0xf008, // film
+			0xf06d, // fire
+			0xf134, // fire-extinguisher
+			0xf0e7, // flash
+			0xf0c3, // flask
+			0xf07b, // folder
+			0xf114, // folder-o
+			0xf07c, // folder-open
+			0xf115, // folder-open-o
+			0xf11b, // gamepad
+			0xf0e3, // gavel
+			0xf06b, // gift
+			0xf000, // glass
+			0xf0a0, // hdd-o
+			0xf025, // headphones
+			0xf03e, // image
+			0xf084, // key
+			0xf11c, // keyboard-o
+			0xf109, // laptop
+			0xf06c, // leaf
+			0xf0e3, // legal
+			0xf094, // lemon-o
+			0xf0eb, // lightbulb-o
+			0xf076, // magnet
+			0xf10b, // mobile
+			0xf10b, // mobile-phone
+			0xf186, // moon-o
+			0xf001, // music
+			0xf1b0, // paw
+			0xf03e, // photo
+			0xf03e, // picture-o
+			0xf02f, // print
+			0xf12e, // puzzle-piece
+			0xf029, // qrcode
+			0xf1b8, // recycle
+			0xf132, // shield
+			0xf07a, // shopping-cart
+			0xf1b1, // spoon
+			0xf0f2, // suitcase
+			0xf185, // sun-o
+			0xf10a, // tablet
+			0xf120, // terminal
+			0xf08d, // thumb-tack
+			0xf145, // ticket
+			0xf043, // tint
+			0xf1bb, // tree
+			0xf0e9, // umbrella
+			0xf03d, // video-camera
+			0xf0ad, // wrench
+	};
+
+	private ObjectIcons() {
+	}
+
+	/**
+	 * Adds the logo types of the category to IconTable, unless they are in it
+	 * already.
+	 */
+	public static void install() {
+		IconTable.install(CODES, NAMES, CODEPOINTS);
+	}
+}
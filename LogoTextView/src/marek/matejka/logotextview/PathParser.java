@@ -0,0 +1,180 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import android.graphics.Path;
+
+/**
+ * Parser of SVG path data, as written by the VectorExporter tool.
+ * 
+ * Supports the commands M, L, H, V, Q, C and Z in absolute and relative form,
+ * including implicitly repeated commands. Arcs and smooth curves are not
+ * supported as the exporter never writes them.
+ * 
+ * @author Marek Matejka
+ */
+final class PathParser {
+
+	private final String mData;
+	private int mIndex;
+
+	private PathParser(String data) {
+		mData = data;
+	}
+
+	/**
+	 * @param data
+	 *            SVG path data.
+	 * @return New Path.
+	 * @throws IllegalArgumentException
+	 *             If the data cannot be parsed.
+	 */
+	static Path parse(String data) {
+		return new PathParser(data).parse();
+	}
+
+	private Path parse() {
+		Path path = new Path();
+		float x = 0;
+		float y = 0;
+		float startX = 0;
+		float startY = 0;
+		char command = 0;
+
+		skipSeparators();
+		while (mIndex < mData.length()) {
+			final char c = mData.charAt(mIndex);
+			if (Character.isLetter(c)) {
+				command = c;
+				mIndex++;
+			} else if (command == 0 || command == 'z' || command == 'Z') {
+				throw error("Expected a command");
+			}
+
+			final boolean relative = Character.isLowerCase(command);
+			final float dx = relative ? x : 0;
+			final float dy = relative ? y : 0;
+
+			switch (Character.toUpperCase(command)) {
+			case 'M':
+				x = startX = dx + nextNumber();
+				y = startY = dy + nextNumber();
+				path.moveTo(x, y);
+				// following pairs are lines
+				command = relative ? 'l' : 'L';
+				break;
+			case 'L':
+				x = dx + nextNumber();
+				y = dy + nextNumber();
+				path.lineTo(x, y);
+				break;
+			case 'H':
+				x = dx + nextNumber();
+				path.lineTo(x, y);
+				break;
+			case 'V':
+				y = dy + nextNumber();
+				path.lineTo(x, y);
+				break;
+			case 'Q': {
+				final float x1 = dx + nextNumber();
+				final float y1 = dy + nextNumber();
+				x = dx + nextNumber();
+				y = dy + nextNumber();
+				path.quadTo(x1, y1, x, y);
+				break;
+			}
+			case 'C': {
+				final float x1 = dx + nextNumber();
+				final float y1 = dy + nextNumber();
+				final float x2 = dx + nextNumber();
+				final float y2 = dy + nextNumber();
+				x = dx + nextNumber();
+				y = dy + nextNumber();
+				path.cubicTo(x1, y1, x2, y2, x, y);
+				break;
+			}
+			case 'Z':
+				path.close();
+				x = startX;
+				y = startY;
+				break;
+			default:
+				throw error("Unsupported command " + command);
+			}
+			skipSeparators();
+		}
+		return path;
+	}
+
+	private float nextNumber() {
+		skipSeparators();
+		final int start = mIndex;
+		final int length = mData.length();
+		boolean dot = false;
+		boolean exponent = false;
+
+		if (mIndex < length
+				&& (mData.charAt(mIndex) == '-' || mData.charAt(mIndex) == '+')) {
+			mIndex++;
+		}
+		while (mIndex < length) {
+			final char c = mData.charAt(mIndex);
+			if (c >= '0' && c <= '9') {
+				mIndex++;
+			} else if (c == '.' && !dot && !exponent) {
+				// a second dot starts the next number, as in "0.5.5"
+				dot = true;
+				mIndex++;
+			} else if ((c == 'e' || c == 'E') && !exponent) {
+				exponent = true;
+				mIndex++;
+				if (mIndex < length
+						&& (mData.charAt(mIndex) == '-' || mData
+								.charAt(mIndex) == '+')) {
+					mIndex++;
+				}
+			} else {
+				break;
+			}
+		}
+
+		if (start == mIndex) {
+			throw error("Expected a number");
+		}
+		try {
+			return Float.parseFloat(mData.substring(start, mIndex));
+		} catch (NumberFormatException e) {
+			throw error("Invalid number");
+		}
+	}
+
+	private void skipSeparators() {
+		while (mIndex < mData.length()) {
+			final char c = mData.charAt(mIndex);
+			if (c != ' ' && c != ',' && c != '\n' && c != '\t' && c != '\r') {
+				break;
+			}
+			mIndex++;
+		}
+	}
+
+	private IllegalArgumentException error(String message) {
+		return new IllegalArgumentException(message + " at " + mIndex
+				+ " in path data");
+	}
+}
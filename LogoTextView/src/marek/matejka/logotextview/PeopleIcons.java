@@ -0,0 +1,168 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * People, place and transport logo types of IconTable, including
+ * health care.
+ * 
+ * The constants are logo type codes as in <i>res/attrs.xml</i>. Being
+ * compile-time constants, they do not keep this class in a shrunk app, only
+ * install() does (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class PeopleIcons {
+
+	public static final int AMBULANCE = 7;
+	public static final int AUTOMOBILE = 37;
+	public static final int BANK = 40;
+	public static final int BUILDING = 61;
+	public static final int BUILDING_O = 62;
+	public static final int CAB = 65;
+	public static final int CAR = 70;
+	public static final int CHILD = 95;
+	public static final int COMPASS = 117;
+	public static final int FEMALE = 166;
+	public static final int FIGHTER_JET = 167;
+	public static final int GRADUATION_CAP = 224;
+	public static final int GROUP = 225;
+	public static final int H_SQUARE = 226;
+	public static final int HOME = 238;
+	public static final int HOSPITAL_O = 239;
+	public static final int INSTITUTION = 248;
+	public static final int LIFE_BOUY = 263;
+	public static final int LIFE_RING = 264;
+	public static final int LIFE_SAVER = 265;
+	public static final int LOCATION_ARROW = 275;
+	public static final int MALE = 286;
+	public static final int MAP_MARKER = 287;
+	public static final int MEDKIT = 289;
+	public static final int MORTAR_BOARD = 301;
+	public static final int PLANE = 326;
+	public static final int ROAD = 357;
+	public static final int ROCKET = 358;
+	public static final int SPACE_SHUTTLE = 401;
+	public static final int STETHOSCOPE = 419;
+	public static final int SUPPORT = 428;
+	public static final int TAXI = 435;
+	public static final int TRUCK = 461;
+	public static final int UNIVERSITY = 471;
+	public static final int USER = 478;
+	public static final int USER_MD = 479;
+	public static final int USERS = 480;
+	public static final int WHEELCHAIR = 492;
+
+	// codes, names and Unicode of the category, in code order
+	private static final int[] CODES = {
+			7, 37, 40, 61, 62, 65, 70, 95, 117, 166, 167, 224, 225, 226, 238,
+			239, 248, 263, 264, 265, 275, 286, 287, 289, 301, 326, 357, 358,
+			401, 419, 428, 435, 461, 471, 478, 479, 480, 492 };
+
+	private static final String[] NAMES = {
+			"ambulance", // 7
+			"automobile", // 37
+			"bank", // 40
+			"building", // 61
+			"building-o", // 62
+			"cab", // 65
+			"car", // 70
+			"child", // 95
+			"compass", // 117
+			"female", // 166
+			"fighter-jet", // 167
+			"graduation-cap", // 224
+			"group", // 225
+			"h-square", // 226
+			"home", // 238
+			"hospital-o", // 239
+			"institution", // 248
+			"life-bouy", // 263
+			"life-ring", // 264
+			"life-saver", // 265
+			"location-arrow", // 275
+			"male", // 286
+			"map-marker", // 287
+			"medkit", // 289
+			"mortar-board", // 301
+			"plane", // 326
+			"road", // 357
+			"rocket", // 358
+			"space-shuttle", // 401
+			"stethoscope", // 419
+			"support", // 428
+			"taxi", // 435
+			"truck", // 461
+			"university", // 471
+			"user", // 478
+			"user-md", // 479
+			"users", // 480
+			"wheelchair", // 492
+	};
+
+	private static final char[] CODEPOINTS = {
+			0xf0f9, // ambulance
+			0xf1b9, // automobile
+			0xf19c, // bank
+			0xf1ad, // building
+			0xf0f7, // building-o
+			0xf1ba, // cab
+			0xf1b9, // car
+			0xf1ae, // child
+			0xf14e, // compass
+			0xf182, // female
+			0xf0fb, // fighter-jet
+			0xf19d, // graduation-cap
+			0xf0c0, // group
+			0xf0fd, // h-square
+			0xf015, // home
+			0xf0f8, // hospital-o
+			0xf19c, // institution
+			0xf1cd, // life-bouy
+			0xf1cd, // life-ring
+			0xf1cd, // life-saver
+			0xf124, // location-arrow
+			0xf183, // male
+			0xf041, // map-marker
+			0xf0fa, // medkit
+			0xf19d, // mortar-board
+			0xf072, // plane
+			0xf018, // road
+			0xf135, // rocket
+			0xf197, // space-shuttle
+			0xf0f1, // stethoscope
+			0xf1cd, // support
+			0xf1ba, // taxi
+			0xf0d1, // truck
+			0xf19c, // university
+			0xf007, // user
+			0xf0f0, // user-md
+			0xf0c0, // users
+			0xf193, // wheelchair
+	};
+
+	private PeopleIcons() {
+	}
+
+	/**
+	 * Adds the logo types of the category to IconTable, unless they are in it
+	 * already.
+	 */
+	public static void install() {
+		IconTable.install(CODES, NAMES, CODEPOINTS);
+	}
+}
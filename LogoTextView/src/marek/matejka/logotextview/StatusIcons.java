@@ -0,0 +1,208 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * Status logo types of IconTable: confirmations, alerts, ratings,
+ * markers and plain shapes.
+ * 
+ * The constants are logo type codes as in <i>res/attrs.xml</i>. Being
+ * compile-time constants, they do not keep this class in a shrunk app, only
+ * install() does (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class StatusIcons {
+
+	public static final int ASTERISK = 36;
+	public static final int BAN = 39;
+	public static final int BOOKMARK = 56;
+	public static final int BOOKMARK_O = 57;
+	public static final int BULLSEYE = 64;
+	public static final int CERTIFICATE = 79;
+	public static final int CHECK = 82;
+	public static final int CHECK_CIRCLE = 83;
+	public static final int CHECK_CIRCLE_O = 84;
+	public static final int CHECK_SQUARE = 85;
+	public static final int CHECK_SQUARE_O = 86;
+	public static final int CIRCLE = 96;
+	public static final int CIRCLE_O = 97;
+	public static final int CIRCLE_O_NOTCH = 98;
+	public static final int CIRCLE_THIN = 99;
+	public static final int DOT_CIRCLE_O = 136;
+	public static final int EXCLAMATION = 153;
+	public static final int EXCLAMATION_CIRCLE = 154;
+	public static final int EXCLAMATION_TRIANGLE = 155;
+	public static final int FLAG = 191;
+	public static final int FLAG_CHECKERED = 192;
+	public static final int FLAG_O = 193;
+	public static final int FROWN_O = 205;
+	public static final int HEART = 235;
+	public static final int HEART_O = 236;
+	public static final int INFO = 244;
+	public static final int INFO_CIRCLE = 245;
+	public static final int MEH_O = 290;
+	public static final int QUESTION = 339;
+	public static final int QUESTION_CIRCLE = 340;
+	public static final int SMILE_O = 388;
+	public static final int SPINNER = 402;
+	public static final int SQUARE = 405;
+	public static final int SQUARE_O = 406;
+	public static final int STAR = 409;
+	public static final int STAR_HALF = 410;
+	public static final int STAR_HALF_EMPTY = 411;
+	public static final int STAR_HALF_FULL = 412;
+	public static final int STAR_HALF_O = 413;
+	public static final int STAR_O = 414;
+	public static final int TAG = 432;
+	public static final int TAGS = 433;
+	public static final int THUMBS_DOWN = 444;
+	public static final int THUMBS_O_DOWN = 445;
+	public static final int THUMBS_O_UP = 446;
+	public static final int THUMBS_UP = 447;
+	public static final int TIMES = 449;
+	public static final int TIMES_CIRCLE = 450;
+	public static final int TIMES_CIRCLE_O = 451;
+	public static final int TROPHY = 460;
+	public static final int WARNING = 488;
+
+	// codes, names and Unicode of the category, in code order
+	private static final int[] CODES = {
+			36, 39, 56, 57, 64, 79, 82, 83, 84, 85, 86, 96, 97, 98, 99, 136,
+			153, 154, 155, 191, 192, 193, 205, 235, 236, 244, 245, 290, 339,
+			340, 388, 402, 405, 406, 409, 410, 411, 412, 413, 414, 432, 433,
+			444, 445, 446, 447, 449, 450, 451, 460, 488 };
+
+	private static final String[] NAMES = {
+			"asterisk", // 36
+			"ban", // 39
+			"bookmark", // 56
+			"bookmark-o", // 57
+			"bullseye", // 64
+			"certificate", // 79
+			"check", // 82
+			"check-circle", // 83
+			"check-circle-o", // 84
+			"check-square", // 85
+			"check-square-o", // 86
+			"circle", // 96
+			"circle-o", // 97
+			"circle-o-notch", // 98
+			"circle-thin", // 99
+			"dot-circle-o", // 136
+			"exclamation", // 153
+			"exclamation-circle", // 154
+			"exclamation-triangle", // 155
+			"flag", // 191
+			"flag-checkered", // 192
+			"flag-o", // 193
+			"frown-o", // 205
+			"heart", // 235
+			"heart-o", // 236
+			"info", // 244
+			"info-circle", // 245
+			"meh-o", // 290
+			"question", // 339
+			"question-circle", // 340
+			"smile-o", // 388
+			"spinner", // 402
+			"square", // 405
+			"square-o", // 406
+			"star", // 409
+			"star-half", // 410
+			"star-half-empty", // 411
+			"star-half-full", // 412
+			"star-half-o", // 413
+			"star-o", // 414
+			"tag", // 432
+			"tags", // 433
+			"thumbs-down", // 444
+			"thumbs-o-down", // 445
+			"thumbs-o-up", // 446
+			"thumbs-up", // 447
+			"times", // 449
+			"times-circle", // 450
+			"times-circle-o", // 451
+			"trophy", // 460
+			"warning", // 488
+	};
+
+	private static final char[] CODEPOINTS = {
+			0xf069, // asterisk
+			0xf05e, // ban
+			0xf02e, // bookmark
+			0xf097, // bookmark-o
+			0xf140, // bullseye
+			0xf0a3, // certificate
+			0xf00c, // check
+			0xf058, // check-circle
+			0xf05d, // check-circle-o
+			0xf14a, // check-square
+			0xf046, // check-square-o
+			0xf111, // circle
+			0xf10c, // circle-o
+			0xf1ce, // circle-o-notch
+			0xf1db, // circle-thin
+			0xf192, // dot-circle-o
+			0xf12a, // exclamation
+			0xf06a, // exclamation-circle
+			0xf071, // exclamation-triangle
+			0xf024, // flag
+			0xf11e, // flag-checkered
+			0xf11d, // flag-o
+			0xf119, // frown-o
+			0xf004, // heart
+			0xf08a, // heart-o
+			0xf129, // info
+			0xf05a, // info-circle
+			0xf11a, // meh-o
+			0xf128, // question
+			0xf059, // question-circle
+			0xf118, // smile-o
+			0xf110, // spinner
+			0xf0c8, // square
+			0xf096, // square-o
+			0xf005, // star
+			0xf089, // star-half
+			0xf123, // star-half-empty
+			0xf123, // star-half-full
+			0xf123, // star-half-o
+			0xf006, // star-o
+			0xf02b, // tag
+			0xf02c, // tags
+			0xf165, // thumbs-down
+			0xf088, // thumbs-o-down
+			0xf087, // thumbs-o-up
+			0xf164, // thumbs-up
+			0xf00d, // times
+			0xf057, // times-circle
+			0xf05c, // times-circle-o
+			0xf091, // trophy
+			0xf071, // warning
+	};
+
+	private StatusIcons() {
+	}
+
+	/**
+	 * Adds the logo types of the category to IconTable, unless they are in it
+	 * already.
+	 */
+	public static void install() {
+		IconTable.install(CODES, NAMES, CODEPOINTS);
+	}
+}
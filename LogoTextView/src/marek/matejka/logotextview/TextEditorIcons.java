@@ -0,0 +1,186 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+/**
+ * Text editor logo types (formatting, lists and clipboard) of IconTable.
+ * 
+ * The constants are logo type codes as in <i>res/attrs.xml</i>. Being
+ * compile-time constants, they do not keep this class in a shrunk app, only
+ * install() does (see IconTable).
+ * 
+ * @author Marek Matejka
+ */
+public final class TextEditorIcons {
+
+	public static final int ALIGN_CENTER = 3;
+	public static final int ALIGN_JUSTIFY = 4;
+	public static final int ALIGN_LEFT = 5;
+	public static final int ALIGN_RIGHT = 6;
+	public static final int BOLD = 52;
+	public static final int CHAIN = 80;
+	public static final int CHAIN_BROKEN = 81;
+	public static final int CLIPBOARD = 100;
+	public static final int COLUMNS = 112;
+	public static final int COPY = 119;
+	public static final int CUT = 126;
+	public static final int DEDENT = 130;
+	public static final int ERASER = 149;
+	public static final int FLOPPY_O = 197;
+	public static final int FONT = 202;
+	public static final int HEADER = 233;
+	public static final int INDENT = 243;
+	public static final int ITALIC = 249;
+	public static final int LINK = 267;
+	public static final int LIST = 271;
+	public static final int LIST_ALT = 272;
+	public static final int LIST_OL = 273;
+	public static final int LIST_UL = 274;
+	public static final int OUTDENT = 305;
+	public static final int PAPERCLIP = 309;
+	public static final int PARAGRAPH = 310;
+	public static final int PASTE = 311;
+	public static final int REPEAT = 352;
+	public static final int ROTATE_LEFT = 359;
+	public static final int ROTATE_RIGHT = 360;
+	public static final int SAVE = 367;
+	public static final int SCISSORS = 368;
+	public static final int STRIKETHROUGH = 421;
+	public static final int SUBSCRIPT = 424;
+	public static final int SUPERSCRIPT = 427;
+	public static final int TABLE = 429;
+	public static final int TEXT_HEIGHT = 438;
+	public static final int TEXT_WIDTH = 439;
+	public static final int TH = 440;
+	public static final int TH_LARGE = 441;
+	public static final int TH_LIST = 442;
+	public static final int UNDERLINE = 469;
+	public static final int UNDO = 470;
+	public static final int UNLINK = 472;
+
+	// codes, names and Unicode of the category, in code order
+	private static final int[] CODES = {
+			3, 4, 5, 6, 52, 80, 81, 100, 112, 119, 126, 130, 149, 197, 202,
+			233, 243, 249, 267, 271, 272, 273, 274, 305, 309, 310, 311, 352,
+			359, 360, 367, 368, 421, 424, 427, 429, 438, 439, 440, 441, 442,
+			469, 470, 472 };
+
+	private static final String[] NAMES = {
+			"align-center", // 3
+			"align-justify", // 4
+			"align-left", // 5
+			"align-right", // 6
+			"bold", // 52
+			"chain", // 80
+			"chain-broken", // 81
+			"clipboard", // 100
+			"columns", // 112
+			"copy", // 119
+			"cut", // 126
+			"dedent", // 130
+			"eraser", // 149
+			"floppy-o", // 197
+			"font", // 202
+			"header", // 233
+			"indent", // 243
+			"italic", // 249
+			"link", // 267
+			"list", // 271
+			"list-alt", // 272
+			"list-ol", // 273
+			"list-ul", // 274
+			"outdent", // 305
+			"paperclip", // 309
+			"paragraph", // 310
+			"paste", // 311
+			"repeat", // 352
+			"rotate-left", // 359
+			"rotate-right", // 360
+			"save", // 367
+			"scissors", // 368
+			"strikethrough", // 421
+			"subscript", // 424
+			"superscript", // 427
+			"table", // 429
+			"text-height", // 438
+			"text-width", // 439
+			"th", // 440
+			"th-large", // 441
+			"th-list", // 442
+			"underline", // 469
+			"undo", // 470
+			"unlink", // 472
+	};
+
+	private static final char[] CODEPOINTS = {
+			0xf037, // align-center
+			0xf039, // align-justify
+			0xf036, // align-left
+			0xf038, // align-right
+			0xf032, // bold
+			0xf0c1, // chain
+			0xf127, // chain-broken
+			0xf0ea, // clipboard
+			0xf0db, // columns
+			0xf0c5, // copy
+			0xf0c4, // cut
+			0xf03b, // dedent
+			0xf12d, // eraser
+			0xf0c7, // floppy-o
+			0xf031, // font
+			0xf1dc, // header
+			0xf03c, // indent
+			0xf033, // italic
+			0xf0c1, // link
+			0xf03a, // list
+			0xf022, // list-alt
+			0xf0cb, // list-ol
+			0xf0ca, // list-ul
+			0xf03b, // outdent
+			0xf0c6, // paperclip
+			0xf1dd, // paragraph
+			0xf0ea, // paste
+			0xf01e, // repeat
+			0xf0e2, // rotate-left
+			0xf01e, // rotate-right
+			0xf0c7, // save
+			0xf0c4, // scissors
+			0xf0cc, // strikethrough
+			0xf12c, // subscript
+			0xf12b, // superscript
+			0xf0ce, // table
+			0xf034, // text-height
+			0xf035, // text-width
+			0xf00a, // th
+			0xf009, // th-large
+			0xf00b, // th-list
+			0xf0cd, // underline
+			0xf0e2, // undo
+			0xf127, // unlink
+	};
+
+	private TextEditorIcons() {
+	}
+
+	/**
+	 * Adds the logo types of the category to IconTable, unless they are in it
+	 * already.
+	 */
+	public static void install() {
+		IconTable.install(CODES, NAMES, CODEPOINTS);
+	}
+}
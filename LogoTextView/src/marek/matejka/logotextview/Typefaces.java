@@ -0,0 +1,52 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import android.content.Context;
+import android.graphics.Typeface;
+
+/**
+ * Typefaces used by LogoView, loaded once per process.
+ * 
+ * @author Marek Matejka
+ */
+final class Typefaces {
+
+	private static final String FONT_AWESOME = "fonts/font_awesome.otf";
+
+	private static Typeface sFontAwesome;
+
+	private Typefaces() {
+	}
+
+	/**
+	 * @param context
+	 *            Any context of the application.
+	 * @return The FontAwesome typeface from the assets.
+	 */
+	static synchronized Typeface getFontAwesome(Context context) {
+		if (sFontAwesome == null) {
+			sFontAwesome = Typeface.createFromAsset(context.getAssets(),
+					FONT_AWESOME);
+			if (LogoProfiler.sEnabled) {
+				LogoProfiler.count(LogoProfiler.FONT_LOADS,
+						LogoProfiler.NO_ICON);
+			}
+		}
+		return sFontAwesome;
+	}
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2014 Marek Matejka
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *     
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package marek.matejka.logotextview;
+
+import android.graphics.Path;
+import android.util.SparseArray;
+
+/**
+ * Registry of icons available as vector paths, usually exported from the
+ * font by the VectorExporter tool (see the LogoRenderer project), which
+ * generates a class registering them.
+ * 
+ * Icons registered here are drawn by LogoDrawable without loading the font.
+ * Paths are kept per canonical glyph ID, so registering an icon also
+ * registers all its aliases.
+ * 
+ * @author Marek Matejka
+ */
+public final class VectorIcons {
+
+	private static final SparseArray<VectorIcon> sIcons = new SparseArray<VectorIcon>();
+
+	private VectorIcons() {
+	}
+
+	/**
+	 * Registers the path of an icon.
+	 * 
+	 * @param code
+	 *            Logo type code.
+	 * @param viewportSize
+	 *            Width and height of the square the path is drawn in.
+	 * @param pathData
+	 *            SVG path data of the icon.
+	 */
+	public static void register(int code, float viewportSize, String pathData) {
+		final int glyphId = IconTable.getGlyphId(code);
+		if (glyphId == IconTable.NO_GLYPH) {
+			throw new IllegalArgumentException("Unknown logo type " + code);
+		}
+		VectorIcon icon = new VectorIcon(PathParser.parse(pathData),
+				viewportSize);
+		synchronized (sIcons) {
+			sIcons.put(glyphId, icon);
+		}
+	}
+
+	/**
+	 * @param glyphId
+	 *            Canonical glyph ID.
+	 * @return Registered path of the glyph, null if there is none.
+	 */
+	static VectorIcon get(int glyphId) {
+		synchronized (sIcons) {
+			return sIcons.get(glyphId);
+		}
+	}
+
+	/**
+	 * Path of an icon and the size of the square it is drawn in.
+	 */
+	static final class VectorIcon {
+		final Path path;
+		final float viewportSize;
+
+		VectorIcon(Path path, float viewportSize) {
+			this.path = path;
+			this.viewportSize = viewportSize;
+		}
+	}
+}